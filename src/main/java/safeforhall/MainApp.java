@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import safeforhall.commons.core.Config;
 import safeforhall.commons.core.LogsCenter;
@@ -23,7 +24,6 @@ import safeforhall.model.ReadOnlyUserPrefs;
 import safeforhall.model.UserPrefs;
 import safeforhall.model.util.SampleDataUtil;
 import safeforhall.storage.AddressBookStorage;
-import safeforhall.storage.JsonAddressBookStorage;
 import safeforhall.storage.JsonUserPrefsStorage;
 import safeforhall.storage.Storage;
 import safeforhall.storage.StorageManager;
@@ -56,7 +56,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
@@ -66,11 +66,19 @@ public class MainApp extends Application {
         storage.saveAddressBook(model.getAddressBook());
         storage.createExportsFolder(userPrefs.getExportsFolderPath());
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Platform::runLater);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the address book file path and storage format in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using " + userPrefs.getStorageFormat() + " storage for " + userPrefs.getAddressBookFilePath());
+        return StorageManager.openAddressBookStorage(userPrefs.getAddressBookFilePath(), userPrefs.getStorageFormat());
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -79,8 +87,10 @@ public class MainApp extends Application {
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
+        long startTime = System.nanoTime();
         try {
             addressBookOptional = storage.readAddressBook();
+            logger.info("Data file loaded in " + (System.nanoTime() - startTime) / 1_000_000 + " ms");
             if (!addressBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample SafeFor(H)All");
             }
@@ -177,6 +187,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping SafeFor(H)All ] =============================");
+        try {
+            logic.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
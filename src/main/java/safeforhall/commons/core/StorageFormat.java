@@ -0,0 +1,13 @@
+package safeforhall.commons.core;
+
+/**
+ * The formats that the address book data can be stored in.
+ */
+public enum StorageFormat {
+    /** The whole address book is rewritten to a single json file on every save. */
+    JSON,
+    /** Changes are appended to a journal next to a json snapshot, which is rewritten once the journal grows. */
+    JOURNAL,
+    /** The whole address book is rewritten to a single compact binary snapshot on every save. */
+    BINARY
+}
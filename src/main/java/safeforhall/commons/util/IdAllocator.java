@@ -0,0 +1,53 @@
+package safeforhall.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static safeforhall.commons.util.AppUtil.checkArgument;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Hands out positive int ids of at most a given bound to the elements of one list.
+ * Each id is one more than the largest id handed out or taken so far, so ids stay dense and an id is not handed out
+ * again soon after its element is gone. Once the bound is reached, the smallest id not in use is handed out instead,
+ * so that no id ever goes past the bound.
+ */
+public class IdAllocator {
+
+    private final int maxId;
+    private int lastId;
+
+    /**
+     * Creates an {@code IdAllocator} that hands out ids from 1 to {@code maxId}.
+     */
+    public IdAllocator(int maxId) {
+        checkArgument(maxId > 0);
+        this.maxId = maxId;
+    }
+
+    /**
+     * Notes that {@code id}, which is at most the bound, has been taken, so that it is not handed out while the bound
+     * has yet to be reached.
+     */
+    public void take(int id) {
+        checkArgument(id > 0 && id <= maxId);
+        lastId = Math.max(lastId, id);
+    }
+
+    /**
+     * Returns a new id, which is not one of the ids {@code isInUse} holds for.
+     *
+     * @throws IllegalStateException if every id up to the bound is in use.
+     */
+    public int allocate(IntPredicate isInUse) {
+        requireNonNull(isInUse);
+        if (lastId < maxId) {
+            return ++lastId;
+        }
+        for (int id = 1; id <= maxId; id++) {
+            if (!isInUse.test(id)) {
+                return id;
+            }
+        }
+        throw new IllegalStateException("Every id up to " + maxId + " is in use");
+    }
+}
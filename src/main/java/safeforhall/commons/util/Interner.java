@@ -0,0 +1,71 @@
+package safeforhall.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A pool of shared instances of an immutable type, looked up by a canonical key.
+ * Instances are only weakly held, so an instance no longer used anywhere else is dropped from the pool once it is
+ * garbage collected, and the pool only grows with the number of instances in use.
+ * Thread-safe.
+ *
+ * @param <K> the type of the canonical keys.
+ * @param <V> the type of the shared instances.
+ */
+public class Interner<K, V> {
+    private final Map<K, KeyedReference<K, V>> instances = new HashMap<>();
+    private final ReferenceQueue<V> collected = new ReferenceQueue<>();
+
+    /**
+     * Returns the shared instance with the given {@code key}, sharing the one made by {@code factory} if there is
+     * none.
+     */
+    public synchronized V intern(K key, Supplier<V> factory) {
+        requireNonNull(key);
+        expungeCollected();
+        KeyedReference<K, V> reference = instances.get(key);
+        V shared = reference == null ? null : reference.get();
+        if (shared == null) {
+            shared = requireNonNull(factory.get());
+            instances.put(key, new KeyedReference<>(key, shared, collected));
+        }
+        return shared;
+    }
+
+    /**
+     * Returns the number of instances in the pool, some of which may be about to be dropped.
+     */
+    public synchronized int size() {
+        expungeCollected();
+        return instances.size();
+    }
+
+    /**
+     * Drops the entries of the instances that have been garbage collected, leaving entries that have since been
+     * taken over by a new instance.
+     */
+    private void expungeCollected() {
+        KeyedReference<?, ?> reference;
+        while ((reference = (KeyedReference<?, ?>) collected.poll()) != null) {
+            instances.remove(reference.key, reference);
+        }
+    }
+
+    /**
+     * A weak reference to a shared instance that remembers its key, so that its entry can be dropped once the
+     * instance has been garbage collected.
+     */
+    private static class KeyedReference<K, V> extends WeakReference<V> {
+        private final K key;
+
+        KeyedReference(K key, V referent, ReferenceQueue<V> queue) {
+            super(referent, queue);
+            this.key = key;
+        }
+    }
+}
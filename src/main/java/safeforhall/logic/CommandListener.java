@@ -0,0 +1,26 @@
+package safeforhall.logic;
+
+import safeforhall.logic.commands.CommandResult;
+import safeforhall.logic.commands.exceptions.CommandException;
+
+/**
+ * Receives the progress and result of a command executed with {@link Logic#executeInBackground}.
+ * Every method is called on the thread that results are published to, one at a time.
+ */
+public interface CommandListener {
+
+    /**
+     * Called when the command has done {@code percent} percent of its work.
+     */
+    void onProgress(int percent);
+
+    /**
+     * Called when the command has completed with {@code commandResult}.
+     */
+    void onSuccess(CommandResult commandResult);
+
+    /**
+     * Called when the command has failed with {@code e}.
+     */
+    void onFailure(CommandException e);
+}
@@ -1,6 +1,8 @@
 package safeforhall.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import safeforhall.commons.core.GuiSettings;
@@ -26,6 +28,36 @@ public interface Logic {
      */
     CommandResult execute(String commandText, Boolean isResidentTab) throws CommandException, ParseException;
 
+    /**
+     * Executes the command, running the slow part of a background command on a worker thread. The result of a
+     * background command is given to {@code listener}, while that of any other command is given before returning.
+     * @param commandText The command as entered by the user.
+     * @param isResidentTab Whether the residents tab is shown.
+     * @param listener Where the progress and result of the command are given to.
+     * @throws CommandException If a command is still running, or if an error occurs during command execution.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    void executeInBackground(String commandText, Boolean isResidentTab, CommandListener listener)
+            throws CommandException, ParseException;
+
+    /**
+     * Cancels the command running in the background, if any.
+     * @return true if a command was cancelled.
+     */
+    boolean cancelCommand();
+
+    /**
+     * Sets where the message of every save of the AddressBook that fails in the background is given to.
+     * The message is given on the thread that commands are entered on.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Saves the changes to the AddressBook that have not been saved yet, waiting until they are written.
+     * @throws IOException If an error occurs while saving.
+     */
+    void flushAddressBook() throws IOException;
+
     /**
      * Returns the AddressBook.
      *
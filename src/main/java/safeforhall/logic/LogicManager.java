@@ -2,40 +2,70 @@ package safeforhall.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import safeforhall.commons.core.GuiSettings;
 import safeforhall.commons.core.LogsCenter;
+import safeforhall.logic.commands.BackgroundCommand;
 import safeforhall.logic.commands.Command;
+import safeforhall.logic.commands.CommandProgress;
 import safeforhall.logic.commands.CommandResult;
 import safeforhall.logic.commands.exceptions.CommandException;
 import safeforhall.logic.parser.AddressBookParser;
 import safeforhall.logic.parser.exceptions.ParseException;
+import safeforhall.model.AddressBookSnapshot;
 import safeforhall.model.Model;
 import safeforhall.model.ReadOnlyAddressBook;
 import safeforhall.model.event.Event;
 import safeforhall.model.person.Person;
+import safeforhall.storage.AddressBookSaver;
 import safeforhall.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * <p>
+ * The model is only used from the thread that commands are entered on. Background commands are prepared on a worker
+ * thread against copies of the data, and are completed by publishing back to the thread that commands are entered on.
+ * Only one background command runs at a time, so the copies are still current when the command is completed.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_COMMAND_RUNNING = "Another command is still running, press Esc to cancel it";
+    public static final long SAVE_DELAY_MILLIS = 500;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final AddressBookSaver addressBookSaver;
     private final AddressBookParser addressBookParser;
+    private final Executor publisher;
+    private final ExecutorService worker;
+    private long savedVersion;
+    private volatile BackgroundRun runningCommand;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which publishes the
+     * progress and results of background commands through {@code publisher}.
+     * The address book in {@code model} is assumed to be the same as the one in {@code storage}.
      */
-    public LogicManager(Model model, Storage storage) {
+    public LogicManager(Model model, Storage storage, Executor publisher) {
         this.model = model;
-        this.storage = storage;
+        this.publisher = publisher;
+        savedVersion = model.getAddressBook().getVersion();
+        addressBookSaver = new AddressBookSaver(storage, SAVE_DELAY_MILLIS, savedVersion, this::publishSaveFailure);
         addressBookParser = new AddressBookParser();
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
@@ -45,14 +75,65 @@ public class LogicManager implements Logic {
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText, isResidentTab);
         commandResult = command.execute(model);
+        saveIfChanged();
+        return commandResult;
+    }
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+    @Override
+    public void executeInBackground(String commandText, Boolean isResidentTab, CommandListener listener)
+            throws CommandException, ParseException {
+        if (runningCommand != null) {
+            throw new CommandException(MESSAGE_COMMAND_RUNNING);
         }
+        logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        return commandResult;
+        Command command = addressBookParser.parseCommand(commandText, isResidentTab);
+        if (!(command instanceof BackgroundCommand)) {
+            CommandResult commandResult = command.execute(model);
+            saveIfChanged();
+            listener.onSuccess(commandResult);
+            return;
+        }
+
+        BackgroundRun run = new BackgroundRun((BackgroundCommand) command, listener);
+        runningCommand = run;
+        worker.execute(run);
+    }
+
+    @Override
+    public boolean cancelCommand() {
+        if (runningCommand == null) {
+            return false;
+        }
+        logger.info("Cancelled background command");
+        runningCommand.cancel();
+        runningCommand = null;
+        return true;
+    }
+
+    /**
+     * Requests a save if the address book has changed since it was last saved.
+     */
+    private void saveIfChanged() {
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        if (addressBook.getVersion() != savedVersion) {
+            savedVersion = addressBook.getVersion();
+            addressBookSaver.requestSave(addressBook);
+        }
+    }
+
+    private void publishSaveFailure(IOException ioe) {
+        publisher.execute(() -> saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        saveFailureHandler = handler;
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        addressBookSaver.flush();
     }
 
     @Override
@@ -101,4 +182,90 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    /**
+     * A background command prepared on the worker thread, whose progress and result are published through the
+     * publisher unless it has been cancelled by then.
+     */
+    private class BackgroundRun implements Runnable, CommandProgress {
+        private static final int FULL_PERCENT = 100;
+
+        private final BackgroundCommand command;
+        private final CommandListener listener;
+        private final ReadOnlyAddressBook addressBook;
+        private final List<Person> shownPersons;
+        private volatile boolean isCancelled;
+        private int reportedPercent = -1;
+
+        /**
+         * Takes a snapshot of the data {@code command} is prepared against, on the thread that commands are entered
+         * on. Only the lists are copied, so that no index is built on that thread.
+         */
+        BackgroundRun(BackgroundCommand command, CommandListener listener) {
+            this.command = command;
+            this.listener = listener;
+            this.addressBook = new AddressBookSnapshot(model.getAddressBook());
+            this.shownPersons = new ArrayList<>(model.getFilteredPersonList());
+        }
+
+        @Override
+        public void run() {
+            BackgroundCommand.Outcome outcome;
+            try {
+                outcome = command.prepare(addressBook, shownPersons, this);
+            } catch (CommandException e) {
+                publishResult(() -> listener.onFailure(e));
+                return;
+            } catch (RuntimeException e) {
+                publishResult(() -> {
+                    throw e;
+                });
+                return;
+            }
+            publishResult(() -> {
+                try {
+                    CommandResult commandResult = outcome.complete(model);
+                    saveIfChanged();
+                    listener.onSuccess(commandResult);
+                } catch (CommandException e) {
+                    listener.onFailure(e);
+                }
+            });
+        }
+
+        @Override
+        public void update(long done, long total) {
+            int percent = total <= 0 ? FULL_PERCENT : (int) (done * FULL_PERCENT / total);
+            if (percent != reportedPercent) {
+                reportedPercent = percent;
+                publisher.execute(() -> {
+                    if (!isCancelled) {
+                        listener.onProgress(percent);
+                    }
+                });
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return isCancelled;
+        }
+
+        void cancel() {
+            isCancelled = true;
+        }
+
+        /**
+         * Publishes {@code result} to be run once this command is no longer running, unless it has been cancelled.
+         */
+        private void publishResult(Runnable result) {
+            publisher.execute(() -> {
+                if (isCancelled) {
+                    return;
+                }
+                runningCommand = null;
+                result.run();
+            });
+        }
+    }
 }
@@ -0,0 +1,70 @@
+package safeforhall.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import safeforhall.logic.commands.exceptions.CommandException;
+import safeforhall.model.AddressBookSnapshot;
+import safeforhall.model.Model;
+import safeforhall.model.ReadOnlyAddressBook;
+import safeforhall.model.person.Person;
+
+/**
+ * Represents a command whose slow part can run away from the model, such as on a worker thread.
+ * <p>
+ * The command is split in two. {@link #prepare} does the slow part against a snapshot of the address book and a copy
+ * of the persons shown, reporting its progress and stopping if it is cancelled, and must not touch the model. The
+ * {@link Outcome} it returns then makes the changes to the model, and should be quick.
+ */
+public abstract class BackgroundCommand extends Command {
+
+    public static final String MESSAGE_CANCELLED = "Command was cancelled";
+
+    /**
+     * Does the slow part of the command.
+     *
+     * @param addressBook A snapshot of the lists of the address book. Commands that look persons or events up in
+     *     the indexes of an {@code AddressBook} build one from it.
+     * @param shownPersons A copy of the persons shown when the command was entered.
+     * @param progress Where progress is reported to, and whether the command has been cancelled.
+     * @return the changes to make to the model to complete the command.
+     * @throws CommandException If an error occurs, or if the command was cancelled.
+     */
+    public abstract Outcome prepare(ReadOnlyAddressBook addressBook, List<Person> shownPersons,
+            CommandProgress progress)
+            throws CommandException;
+
+    /**
+     * Prepares and completes the command on the calling thread.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        return prepare(new AddressBookSnapshot(model.getAddressBook()),
+                new ArrayList<>(model.getFilteredPersonList()), CommandProgress.NONE).complete(model);
+    }
+
+    /**
+     * Throws a {@code CommandException} if {@code progress} has been cancelled.
+     */
+    protected static void checkCancelled(CommandProgress progress) throws CommandException {
+        if (progress.isCancelled()) {
+            throw new CommandException(MESSAGE_CANCELLED);
+        }
+    }
+
+    /**
+     * The changes a {@code BackgroundCommand} makes to the model once it has been prepared.
+     */
+    @FunctionalInterface
+    public interface Outcome {
+        /**
+         * Makes the changes to {@code model} and returns the result of the command.
+         *
+         * @throws CommandException If an error occurs while making the changes.
+         */
+        CommandResult complete(Model model) throws CommandException;
+    }
+}
@@ -0,0 +1,28 @@
+package safeforhall.logic.commands;
+
+/**
+ * Receives the progress of a {@code BackgroundCommand} and tells it whether it has been cancelled.
+ */
+public interface CommandProgress {
+
+    /** Progress that is not reported anywhere and is never cancelled. */
+    CommandProgress NONE = new CommandProgress() {
+        @Override
+        public void update(long done, long total) {}
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+    };
+
+    /**
+     * Reports that {@code done} out of {@code total} units of work have been done.
+     */
+    void update(long done, long total);
+
+    /**
+     * Returns true if the command should stop as soon as it can.
+     */
+    boolean isCancelled();
+}
@@ -0,0 +1,55 @@
+package safeforhall.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import safeforhall.logic.parser.CliSyntax;
+import safeforhall.model.Model;
+import safeforhall.model.person.AttributeFilter;
+
+/**
+ * Counts the residents in the address book with the given vaccination status, faculty, block and level, without
+ * changing the residents listed.
+ */
+public class CountCommand extends Command {
+
+    public static final String COMMAND_WORD = "count";
+    public static final String PARAMETERS = "[r/BLOCK_OR_LEVEL] [v/VACCINATION_STATUS] [f/FACULTY]";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Counts the residents in the given block, level or "
+            + "block-level with the given vaccination status and faculty, or all residents if none are given.\n"
+            + "Parameters: "
+            + "[" + CliSyntax.PREFIX_ROOM + "BLOCK_OR_LEVEL] "
+            + "[" + CliSyntax.PREFIX_VACCSTATUS + "VACCINATION_STATUS] "
+            + "[" + CliSyntax.PREFIX_FACULTY + "FACULTY]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + CliSyntax.PREFIX_ROOM + "C "
+            + CliSyntax.PREFIX_VACCSTATUS + "F";
+
+    public static final String MESSAGE_SUCCESS = "%1$d residents counted";
+    public static final String MESSAGE_INVALID_ROOM = "Residents can be counted by block, level or block-level: \n"
+            + "Example: " + CliSyntax.PREFIX_ROOM + "A , "
+            + CliSyntax.PREFIX_ROOM + "1 , "
+            + CliSyntax.PREFIX_ROOM + "A1";
+
+    private final AttributeFilter filter;
+
+    /**
+     * Creates a CountCommand to count the residents matching {@code filter}.
+     */
+    public CountCommand(AttributeFilter filter) {
+        requireNonNull(filter);
+        this.filter = filter;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.countPersonsMatching(filter)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CountCommand // instanceof handles nulls
+                && filter.equals(((CountCommand) other).filter)); // state check
+    }
+}
@@ -3,14 +3,12 @@ package safeforhall.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.time.temporal.ChronoUnit;
-import java.util.function.Predicate;
+import java.util.List;
 
 import safeforhall.logic.commands.exceptions.CommandException;
 import safeforhall.logic.parser.CliSyntax;
 import safeforhall.model.Model;
 import safeforhall.model.person.LastDate;
-import safeforhall.model.person.NameMissedDeadlinePredicate;
-import safeforhall.model.person.NameNearLastDatePredicate;
 import safeforhall.model.person.Person;
 
 /**
@@ -61,7 +59,6 @@ public class DeadlineCommand extends Command {
     private final String keyword;
     private final LastDate date1;
     private final LastDate date2;
-    private final Predicate<Person> predicate;
 
     /**
      * Creates an DeadlineCommand to add the specified {@code String}
@@ -71,13 +68,6 @@ public class DeadlineCommand extends Command {
         this.keyword = keyword;
         this.date1 = date1;
         this.date2 = date1;
-        if (keyword.equals("lf")) {
-            this.predicate = new NameMissedDeadlinePredicate(FET_KEYWORD, date1);
-        } else if (keyword.equals("lc")) {
-            this.predicate = new NameMissedDeadlinePredicate(ART_KEYWORD, date1);
-        } else {
-            this.predicate = new NameNearLastDatePredicate(keyword, date1);
-        }
     }
 
     /**
@@ -90,7 +80,6 @@ public class DeadlineCommand extends Command {
         this.date1 = date1;
         this.date2 = date2;
         this.keyword = keyword;
-        this.predicate = new NameNearLastDatePredicate(keyword, date1, date2);
     }
 
     @Override
@@ -100,7 +89,8 @@ public class DeadlineCommand extends Command {
         if (period < 0) {
             throw new CommandException(MESSAGE_SECOND_DATE_EARLIER_THAN_FIRST);
         }
-        model.updateFilteredPersonList(predicate);
+        // the persons due are found again whenever persons change
+        model.updateFilteredPersonListByQuery(this::findDuePersons);
         switch (keyword) {
         case ART_KEYWORD:
             return new CommandResult(MESSAGE_SUCCESS_ART);
@@ -115,6 +105,20 @@ public class DeadlineCommand extends Command {
         }
     }
 
+    /**
+     * Looks up the persons due in the deadline index of {@code model} instead of testing every person.
+     */
+    private List<Person> findDuePersons(Model model) {
+        switch (keyword) {
+        case LATE_ART_KEYWORD:
+            return model.getPersonsDueBefore(ART_KEYWORD, date1.toLocalDate());
+        case LATE_FET_KEYWORD:
+            return model.getPersonsDueBefore(FET_KEYWORD, date1.toLocalDate());
+        default:
+            return model.getPersonsDueBetween(keyword, date1.toLocalDate(), date2.toLocalDate());
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -12,6 +12,7 @@ import safeforhall.model.Model;
 import safeforhall.model.event.Event;
 import safeforhall.model.event.ResidentList;
 import safeforhall.model.person.Person;
+import safeforhall.model.person.PersonIdSet;
 
 /**
  * Removes a resident from an event.
@@ -48,13 +49,11 @@ public class ExcludeCommand extends Command {
     public void checkAllExists(ArrayList<Person> toRemove, ArrayList<Person> currentResidents)
             throws CommandException {
         StringBuilder names = new StringBuilder();
-
-        int foundInvalid = (int) toRemove.stream()
-                .filter(person -> !currentResidents.contains(person))
-                .count();
+        PersonIdSet invalidIds = PersonIdSet.of(toRemove).difference(PersonIdSet.of(currentResidents));
+        int foundInvalid = invalidIds.size();
 
         toRemove.stream()
-                .filter(person -> !currentResidents.contains(person))
+                .filter(invalidIds::contains)
                 .forEach(person -> names.append(person.getName()).append(", "));
 
         String invalidNames = names.toString().replaceAll(", $", "");
@@ -107,10 +106,7 @@ public class ExcludeCommand extends Command {
      * residents in {@code toRemove} from the current residents
      */
     public Event createEditedEvent(Event event, ArrayList<Person> toRemove) {
-        String combinedDisplayString = event.getRemovedDisplayString(toRemove);
-        String combinedStorageString = event.getRemovedStorageString(toRemove);
-
-        return new Event(event.getEventName(), event.getEventDate(), event.getEventTime(),
-                event.getVenue(), event.getCapacity(), new ResidentList(combinedDisplayString, combinedStorageString));
+        return new Event(event.getId(), event.getEventName(), event.getEventDate(), event.getEventTime(),
+                event.getVenue(), event.getCapacity(), event.getResidentList().withResidentsRemoved(toRemove));
     }
 }
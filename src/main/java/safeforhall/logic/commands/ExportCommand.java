@@ -1,7 +1,5 @@
 package safeforhall.logic.commands;
 
-import static java.util.Objects.requireNonNull;
-
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -11,10 +9,10 @@ import java.util.List;
 import com.opencsv.CSVWriter;
 
 import safeforhall.logic.commands.exceptions.CommandException;
-import safeforhall.model.Model;
+import safeforhall.model.ReadOnlyAddressBook;
 import safeforhall.model.person.Person;
 
-public class ExportCommand extends Command {
+public class ExportCommand extends BackgroundCommand {
 
     public static final String COMMAND_WORD = "export";
     public static final String PARAMETERS = "FILE_NAME";
@@ -39,19 +37,15 @@ public class ExportCommand extends Command {
     }
 
     /**
-     * Executes the command and returns the result message.
-     *
-     * @param model {@code Model} which the command should operate on.
-     * @return feedback message of the operation result for display
-     * @throws CommandException If an error occurs during command execution.
+     * Writes the emails of the shown persons to the csv, which leaves the model unchanged once completed.
      */
     @Override
-    public CommandResult execute(Model model) throws CommandException {
-        requireNonNull(model);
-        List<Person> filteredPersonList = model.getFilteredPersonList();
-        ArrayList<String[]> emailArr = getEmailArr(filteredPersonList);
+    public Outcome prepare(ReadOnlyAddressBook addressBook, List<Person> shownPersons,
+            CommandProgress progress) throws CommandException {
+        ArrayList<String[]> emailArr = getEmailArr(shownPersons);
+        checkCancelled(progress);
         writeCsv(emailArr);
-        return new CommandResult(MESSAGE_SUCCESS);
+        return model -> new CommandResult(MESSAGE_SUCCESS);
     }
 
     public ArrayList<String[]> getEmailArr(List<Person> filteredList) {
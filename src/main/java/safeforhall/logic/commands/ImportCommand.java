@@ -1,7 +1,5 @@
 package safeforhall.logic.commands;
 
-import static java.util.Objects.requireNonNull;
-
 import java.io.FileReader;
 import java.io.IOException;
 import java.nio.file.Path;
@@ -14,7 +12,7 @@ import com.opencsv.exceptions.CsvException;
 
 import safeforhall.logic.commands.exceptions.CommandException;
 import safeforhall.model.AddressBook;
-import safeforhall.model.Model;
+import safeforhall.model.ReadOnlyAddressBook;
 import safeforhall.model.event.Event;
 import safeforhall.model.event.ResidentList;
 import safeforhall.model.person.Email;
@@ -31,7 +29,7 @@ import safeforhall.model.person.exceptions.DuplicatePersonException;
  * Imports the csv and replaces the existing address book with the available information
  * provided a correctly formatted csv was found at "/data/"
  */
-public class ImportCommand extends Command {
+public class ImportCommand extends BackgroundCommand {
 
     public static final String COMMAND_WORD = "import";
     public static final String PARAMETERS = "CSV_NAME";
@@ -85,24 +83,29 @@ public class ImportCommand extends Command {
         this.filepath = path;
     }
 
+    /**
+     * Reads the csv into a new address book, which replaces the address book of the model once completed.
+     */
     @Override
-    public CommandResult execute(Model model) throws CommandException {
-        requireNonNull(model);
-        AddressBook newAddressBook = readCsv();
+    public Outcome prepare(ReadOnlyAddressBook addressBook, List<Person> shownPersons,
+            CommandProgress progress) throws CommandException {
+        AddressBook newAddressBook = readCsv(progress);
         if (newAddressBook.getPersonList().isEmpty()) {
             throw new CommandException(MESSAGE_NO_RESIDENTS);
         }
-        List<Event> eventList = model.getAddressBook().getEventList();
-        ArrayList<Event> eventListRemovedResidents = new ArrayList<>();
-        for (Event event: eventList) {
-            Event newEvent = new Event(event.getEventName(), event.getEventDate(), event.getEventTime(),
-                    event.getVenue(), event.getCapacity(),
-                    new ResidentList(ResidentList.DEFAULT_LIST, ResidentList.DEFAULT_LIST));
-            eventListRemovedResidents.add(newEvent);
-        }
-        newAddressBook.setEvents(eventListRemovedResidents);
-        model.setAddressBook(newAddressBook);
-        return new CommandResult(MESSAGE_SUCCESS);
+        return model -> {
+            List<Event> eventList = model.getAddressBook().getEventList();
+            ArrayList<Event> eventListRemovedResidents = new ArrayList<>();
+            for (Event event: eventList) {
+                Event newEvent = new Event(event.getId(), event.getEventName(), event.getEventDate(),
+                        event.getEventTime(), event.getVenue(), event.getCapacity(),
+                        new ResidentList(ResidentList.DEFAULT_LIST, ResidentList.DEFAULT_LIST));
+                eventListRemovedResidents.add(newEvent);
+            }
+            newAddressBook.setEvents(eventListRemovedResidents);
+            model.setAddressBook(newAddressBook);
+            return new CommandResult(MESSAGE_SUCCESS);
+        };
     }
 
     /**
@@ -111,13 +114,14 @@ public class ImportCommand extends Command {
      * @return A new AddressBook with the content of the csv if reading was a success
      * @throws CommandException If an error occurs during command execution.
      */
-    private AddressBook readCsv() throws CommandException {
+    private AddressBook readCsv(CommandProgress progress) throws CommandException {
         ArrayList<Person> persons = new ArrayList<Person>();
         try (CSVReader reader = new CSVReader(new FileReader(this.filepath.toString()))) {
             List<String[]> rows = reader.readAll();
             // Remove column headings row
             rows.remove(0);
-            addPersons(persons, rows);
+            addPersons(persons, rows, progress);
+            checkCancelled(progress);
             return createNewAddressBook(persons);
         } catch (IOException e) {
             throw new CommandException(MESSAGE_FILE_NOT_FOUND);
@@ -139,8 +143,12 @@ public class ImportCommand extends Command {
         return importedData;
     }
 
-    private void addPersons(ArrayList<Person> persons, List<String[]> rows) throws CommandException {
-        for (String[] row: rows) {
+    private void addPersons(ArrayList<Person> persons, List<String[]> rows, CommandProgress progress)
+            throws CommandException {
+        for (int i = 0; i < rows.size(); i++) {
+            checkCancelled(progress);
+            progress.update(i, rows.size());
+            String[] row = rows.get(i);
             Person personToAdd;
             try {
                 // Skip empty rows
@@ -150,7 +158,7 @@ public class ImportCommand extends Command {
                 personToAdd = createPerson(row);
             } catch (IllegalArgumentException e) {
                 // Index + 2 to account for discarded first row and zero-indexing
-                throw new CommandException(String.format(MESSAGE_ERROR_READING, rows.indexOf(row) + 2)
+                throw new CommandException(String.format(MESSAGE_ERROR_READING, i + 2)
                     + e.getMessage());
             }
             persons.add(personToAdd);
@@ -166,17 +174,17 @@ public class ImportCommand extends Command {
         Room room = new Room(row[1]);
         Phone phone = new Phone(row[2]);
         Email email = new Email(row[3]);
-        VaccStatus vaccStatus = new VaccStatus(row[4]);
-        Faculty faculty = new Faculty(row[5]);
+        VaccStatus vaccStatus = VaccStatus.of(row[4]);
+        Faculty faculty = Faculty.of(row[5]);
         LastDate lastFet = null;
         LastDate lastCollection = null;
         if (!row[6].trim().isEmpty()) {
-            lastFet = new LastDate(row[6]);
+            lastFet = LastDate.of(row[6]);
         }
         if (!row[7].trim().isEmpty()) {
-            lastCollection = new LastDate(row[7]);
+            lastCollection = LastDate.of(row[7]);
         }
-        LastDate defaultDate = new LastDate(LastDate.DEFAULT_DATE);
+        LastDate defaultDate = LastDate.of(LastDate.DEFAULT_DATE);
         return new Person(name, room, phone, email, vaccStatus, faculty,
                 lastFet == null ? defaultDate : lastFet,
                 lastCollection == null ? defaultDate : lastCollection);
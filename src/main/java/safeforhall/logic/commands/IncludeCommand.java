@@ -12,6 +12,7 @@ import safeforhall.model.Model;
 import safeforhall.model.event.Event;
 import safeforhall.model.event.ResidentList;
 import safeforhall.model.person.Person;
+import safeforhall.model.person.PersonIdSet;
 
 /**
  * Adds a resident to an event.
@@ -50,13 +51,11 @@ public class IncludeCommand extends Command {
     public void checkForDuplicates(ArrayList<Person> toAdd, ArrayList<Person> currentResidents)
             throws CommandException {
         StringBuilder names = new StringBuilder();
-
-        int foundDuplicate = (int) toAdd.stream()
-                .filter(currentResidents::contains)
-                .count();
+        PersonIdSet duplicateIds = PersonIdSet.of(toAdd).intersection(PersonIdSet.of(currentResidents));
+        int foundDuplicate = duplicateIds.size();
 
         toAdd.stream()
-                .filter(currentResidents::contains)
+                .filter(duplicateIds::contains)
                 .forEach(person -> names.append(person.getName()).append(", "));
 
         String duplicates = names.toString().replaceAll(", $", "");
@@ -109,16 +108,12 @@ public class IncludeCommand extends Command {
      * current residents and the new residents from {@code toAdd}
      */
     public Event createEditedEvent(Event event, ArrayList<Person> toAdd) throws CommandException {
-        String combinedDisplayString = event.getCombinedDisplayString(toAdd);
-        String combinedStorageString = event.getCombinedStorageString(toAdd);
-
-        if (new ResidentList(combinedDisplayString,
-                combinedStorageString).getResidents().size() > event.getCapacity().capacity) {
+        ResidentList combined = event.getResidentList().withResidentsAdded(toAdd);
+        if (combined.getResidentListSize() > event.getCapacity().capacity) {
             throw new CommandException(MESSAGE_EXCEED_CAPACITY);
         }
 
-        return new Event(event.getEventName(), event.getEventDate(), event.getEventTime(),
-                event.getVenue(), event.getCapacity(), new ResidentList(combinedDisplayString,
-                combinedStorageString));
+        return new Event(event.getId(), event.getEventName(), event.getEventDate(), event.getEventTime(),
+                event.getVenue(), event.getCapacity(), combined);
     }
 }
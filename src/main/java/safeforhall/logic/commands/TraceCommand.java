@@ -1,23 +1,23 @@
 package safeforhall.logic.commands;
 
-import static java.util.Objects.requireNonNull;
-
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import safeforhall.logic.commands.exceptions.CommandException;
 import safeforhall.logic.parser.CliSyntax;
 import safeforhall.model.AddressBook;
 import safeforhall.model.Model;
+import safeforhall.model.ReadOnlyAddressBook;
+import safeforhall.model.event.ContactGraph;
 import safeforhall.model.event.Event;
 import safeforhall.model.person.Person;
 
-public class TraceCommand extends Command {
+public class TraceCommand extends BackgroundCommand {
 
     public static final String COMMAND_WORD = "trace";
     public static final String PARAMETERS = "r/RESIDENT [d/DEPTH] [t/DURATION] ";
@@ -38,6 +38,7 @@ public class TraceCommand extends Command {
             + "     4. Duration is in days and will default to 7\n";
 
     public static final String MESSAGE_FOUND_CONTACTS = "Found %1d close contacts at this depth: ";
+    public static final String MESSAGE_CONTACTS_AT_DEPTH = "\nDepth %1d: %2s";
 
     public static final Integer DEFAULT_DEPTH = 1;
     public static final Integer DEFAULT_DURATION = 7;
@@ -83,52 +84,64 @@ public class TraceCommand extends Command {
         this.duration = duration;
     }
 
+    /**
+     * Traces the close contacts in {@code addressBook}, which are shown once completed.
+     */
     @Override
-    public CommandResult execute(Model model) throws CommandException {
-        requireNonNull(model);
-        AddressBook addressBook = (AddressBook) model.getAddressBook();
+    public Outcome prepare(ReadOnlyAddressBook snapshot, List<Person> shownPersons,
+            CommandProgress progress) throws CommandException {
+        // the persons and events are looked up in the indexes, which are built here away from the model
+        AddressBook addressBook = new AddressBook(snapshot);
         this.person = addressBook.findPerson(this.personInput);
 
         if (this.person.isEmpty()) {
             throw new CommandException("No resident with this information '" + this.personInput + "' could be found");
         }
 
-        List<Person> contacts = findCloseContacts(model, this.person.get());
-        contacts.remove(this.person.get());
+        Map<Person, Integer> contacts = findCloseContacts(addressBook, this.person.get());
+        checkCancelled(progress);
 
-        model.updateFilteredPersonList(contacts::contains);
-        return new CommandResult(
-                String.format(MESSAGE_FOUND_CONTACTS, model.getFilteredPersonList().size()));
+        return model -> {
+            model.updateFilteredPersonList(contacts::containsKey);
+            return new CommandResult(
+                    String.format(MESSAGE_FOUND_CONTACTS, model.getFilteredPersonList().size())
+                            + getContactsByDepth(model, contacts));
+        };
     }
 
-    private ArrayList<Person> findCloseContacts(Model model, Person person) {
-        Predicate<Event> predicate = event -> {
-            LocalDate eventDate = event.getEventDate().toLocalDate();
-            LocalDate today = LocalDate.now();
-            long days = ChronoUnit.DAYS.between(eventDate, today);
-            return days >= 0 && days <= this.duration;
-        };
-        ArrayList<Person> contacts = new ArrayList<>();
-        contacts.add(person);
-        for (int i = 0; i < this.depth; i++) {
-            ArrayList<Person> copyOfContacts = new ArrayList<>(contacts);
-            for (Person contact: contacts) {
-                ArrayList<Event> relevantEvents = model.getPersonEvents(contact, predicate);
-                addToContacts(copyOfContacts, relevantEvents);
-            }
-            contacts = copyOfContacts;
-        }
-        return contacts;
+    /**
+     * Returns the close contacts of {@code person} mapped to the depth at which they were reached, ordered by depth.
+     * Only events within the last {@code duration} days are considered.
+     */
+    private Map<Person, Integer> findCloseContacts(AddressBook addressBook, Person person) {
+        LocalDate today = LocalDate.now();
+        List<Event> relevantEvents = addressBook.getEventsBetween(today.minusDays(this.duration), today);
+        return new ContactGraph(relevantEvents).trace(person, this.depth);
     }
 
-    private void addToContacts(List<Person> contacts, ArrayList<Event> relevantEvents) {
-        ArrayList<Person> finalContacts = new ArrayList<>(contacts);
-        relevantEvents.forEach(event ->
-                finalContacts.addAll(event.getResidentList().getResidents()));
-        contacts.removeAll(contacts);
-        contacts.addAll(finalContacts.stream()
-                .distinct()
-                .collect(Collectors.toList()));
+    /**
+     * Lists the names of the shown contacts grouped by the depth at which they were reached.
+     */
+    private String getContactsByDepth(Model model, Map<Person, Integer> contacts) {
+        Set<Person> shownContacts = new HashSet<>(model.getFilteredPersonList());
+        StringBuilder builder = new StringBuilder();
+        List<String> names = new ArrayList<>();
+        int currentDepth = 0;
+        for (Map.Entry<Person, Integer> contact : contacts.entrySet()) {
+            if (!shownContacts.contains(contact.getKey())) {
+                continue;
+            }
+            if (contact.getValue() != currentDepth && !names.isEmpty()) {
+                builder.append(String.format(MESSAGE_CONTACTS_AT_DEPTH, currentDepth, String.join(", ", names)));
+                names.clear();
+            }
+            currentDepth = contact.getValue();
+            names.add(contact.getKey().getName().fullName);
+        }
+        if (!names.isEmpty()) {
+            builder.append(String.format(MESSAGE_CONTACTS_AT_DEPTH, currentDepth, String.join(", ", names)));
+        }
+        return builder.toString();
     }
 
     @Override
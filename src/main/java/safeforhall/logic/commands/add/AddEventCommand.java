@@ -68,10 +68,8 @@ public class AddEventCommand extends Command {
             throw new CommandException(MESSAGE_EXCEED_CAPACITY);
         }
 
-        String combinedStorageString = toAdd.getCombinedStorageString(personList);
-        Event editedEvent = new Event(toAdd.getEventName(), toAdd.getEventDate(), toAdd.getEventTime(),
-                toAdd.getVenue(), toAdd.getCapacity(), new ResidentList(personListToString(personList),
-                combinedStorageString));
+        Event editedEvent = new Event(toAdd.getId(), toAdd.getEventName(), toAdd.getEventDate(),
+                toAdd.getEventTime(), toAdd.getVenue(), toAdd.getCapacity(), ResidentList.fromResidents(personList));
         model.addEvent(editedEvent);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
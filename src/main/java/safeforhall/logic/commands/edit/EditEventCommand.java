@@ -104,7 +104,8 @@ public class EditEventCommand extends Command {
         ResidentList updatedResidentList = editEventDescriptor.getResidentList()
                 .orElse(eventToEdit.getResidentList());
 
-        return new Event(updatedName, updatedDate, updatedTime, updatedVenue, updatedCapacity, updatedResidentList);
+        return new Event(eventToEdit.getId(), updatedName, updatedDate, updatedTime, updatedVenue, updatedCapacity,
+                updatedResidentList);
     }
 
 
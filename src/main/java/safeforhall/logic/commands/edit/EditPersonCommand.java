@@ -92,12 +92,13 @@ public class EditPersonCommand extends Command {
             if (isNotSamePerson && model.hasExactPerson(editedPerson)) {
                 throw new CommandException(MESSAGE_DUPLICATE_PERSON);
             }
-            updatePersonEventResidentLists(model, personToEdit, editedPerson);
             try {
                 model.setPerson(personToEdit, editedPerson);
             } catch (DuplicatePersonException e) {
                 throw new CommandException(MESSAGE_DUPLICATE_PERSON);
             }
+            // the events are updated once the edited person is in the address book, so that it stays their resident
+            updatePersonEventResidentLists(model, personToEdit, editedPerson);
             editedResidents.append(count + 1).append(".\t").append(personToEdit.getName()).append("\n");
             count++;
         }
@@ -115,13 +116,10 @@ public class EditPersonCommand extends Command {
             ArrayList<Person> toAdd = new ArrayList<>();
             toAdd.add(editedPerson);
 
-            ResidentList removed = new ResidentList(residents.getRemovedDisplayString(toRemove),
-                    residents.getRemovedStorageString(toRemove));
-            ResidentList added = new ResidentList(removed.getCombinedDisplayString(toAdd),
-                    removed.getCombinedStorageString(toAdd));
+            ResidentList added = residents.withResidentsRemoved(toRemove).withResidentsAdded(toAdd);
 
-            Event editedEvent = new Event(event.getEventName(), event.getEventDate(), event.getEventTime(),
-                    event.getVenue(), event.getCapacity(), added);
+            Event editedEvent = new Event(event.getId(), event.getEventName(), event.getEventDate(),
+                    event.getEventTime(), event.getVenue(), event.getCapacity(), added);
             model.setEvent(event, editedEvent);
             model.updateFilteredEventList(Model.PREDICATE_SHOW_ALL_EVENTS);
         }
@@ -144,8 +142,8 @@ public class EditPersonCommand extends Command {
         LastDate updatedLastCollectionDate = editPersonDescriptor.getLastCollectionDate()
                 .orElse(personToEdit.getLastCollectionDate());
         // Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
-        return new Person(updatedName, updatedRoom, updatedPhone, updatedEmail, updatedVaccStatus, updatedFaculty,
-                updatedLastFetDate, updatedLastCollectionDate);
+        return new Person(personToEdit.getId(), updatedName, updatedRoom, updatedPhone, updatedEmail,
+                updatedVaccStatus, updatedFaculty, updatedLastFetDate, updatedLastCollectionDate);
     }
 
     @Override
@@ -2,11 +2,15 @@ package safeforhall.logic.commands.find;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import safeforhall.commons.core.Messages;
 import safeforhall.commons.util.CollectionUtil;
@@ -14,12 +18,15 @@ import safeforhall.logic.commands.Command;
 import safeforhall.logic.commands.CommandResult;
 import safeforhall.logic.parser.CliSyntax;
 import safeforhall.model.Model;
+import safeforhall.model.person.AttributeFilter;
 import safeforhall.model.person.Email;
 import safeforhall.model.person.Faculty;
 import safeforhall.model.person.Name;
 import safeforhall.model.person.NameContainsKeywordsPredicate;
 import safeforhall.model.person.Person;
 import safeforhall.model.person.Phone;
+import safeforhall.model.person.Room;
+import safeforhall.model.person.RoomRange;
 import safeforhall.model.person.RoomValidCheckPredicate;
 import safeforhall.model.person.VaccStatus;
 
@@ -34,7 +41,8 @@ public class FindPersonCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all residents whose parameters match any of "
             + "the provided keywords for different options (case-insensitive) and displays them as a "
             + "list with index numbers.\n"
-            + "Note that room can searched for by block (A), level (1), and block-level (A1) as well. "
+            + "Note that room can searched for by block (A), level (1), block-level (A1) and range of rooms "
+            + "(A100-A129) as well. "
             + "Parameters: "
             + "[" + CliSyntax.PREFIX_NAME + "NAME] "
             + "[" + CliSyntax.PREFIX_ROOM + "ROOM] "
@@ -49,6 +57,8 @@ public class FindPersonCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Matching residents listed.";
     public static final String MESSAGE_NOT_FILTERED = "At least one field to filter be must be provided.";
+    public static final String MESSAGE_SIMILAR_NAMES_LISTED = "No resident has that name, %1$d persons with similar "
+            + "names listed. Closest match: %2$s";
 
     private final FindCompositePredicate predicate;
 
@@ -59,9 +69,80 @@ public class FindPersonCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        if (isAnyFieldIndexed()) {
+            // only the persons found in an index are tested, and they are found again whenever persons change
+            model.updateFilteredPersonListByQuery(this::findMatches);
+        } else {
+            model.updateFilteredPersonList(predicate);
+        }
+
+        int listedCount = model.getFilteredPersonList().size();
+        if (listedCount > 0 && !hasNameFound(model)) {
+            Person closest = findSimilarlyNamed(model).get(0);
+            return new CommandResult(String.format(MESSAGE_SIMILAR_NAMES_LISTED, listedCount, closest.getName()));
+        }
+        return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, listedCount));
+    }
+
+    /**
+     * Returns the persons matching every field filtered with, or if no person has any of the words of the name
+     * filtered with, those with a similar name that match every other field.
+     */
+    private List<Person> findMatches(Model model) {
+        if (!hasNameFound(model)) {
+            return findSimilarlyNamed(model);
+        }
+        return findCandidates(model).stream()
+                .filter(predicate)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if the name is not filtered with, or some person has one of the words of the name as a whole word
+     * of their name.
+     */
+    private boolean hasNameFound(Model model) {
+        Optional<List<String>> nameWords = predicate.getNameWords();
+        return nameWords.isEmpty() || !model.findPersonsByNameWords(nameWords.get()).isEmpty();
+    }
+
+    /**
+     * Returns the persons with a word in their name starting with, or misspelt as, one of the words of the name
+     * filtered with, and matching every other field, with the closest names first.
+     */
+    private List<Person> findSimilarlyNamed(Model model) {
+        FindCompositePredicate otherFields = predicate.withoutName();
+        Set<Person> persons = new LinkedHashSet<>();
+        for (String word : predicate.getNameWords().orElseThrow()) {
+            model.searchPersonsByName(word).stream()
+                    .filter(otherFields)
+                    .forEach(persons::add);
+        }
+        return new ArrayList<>(persons);
+    }
+
+    /**
+     * Returns true if any field filtered with is covered by the room, name or attribute indexes.
+     */
+    private boolean isAnyFieldIndexed() {
+        return predicate.getRoomRanges().isPresent() || predicate.getNameWords().isPresent()
+                || predicate.getAttributeFilter().isPresent();
+    }
+
+    /**
+     * Returns the persons that may match, from the first index that covers a field filtered with, looking at the
+     * room, name and then attribute indexes.
+     */
+    private List<Person> findCandidates(Model model) {
+        Optional<List<RoomRange>> roomRanges = predicate.getRoomRanges();
+        if (roomRanges.isPresent()) {
+            return model.getPersonsInRooms(roomRanges.get());
+        }
+        Optional<List<String>> nameWords = predicate.getNameWords();
+        if (nameWords.isPresent()) {
+            return model.findPersonsByNameWords(nameWords.get());
+        }
+        return model.getPersonsMatching(predicate.getAttributeFilter().orElseThrow());
     }
 
     @Override
@@ -73,10 +154,12 @@ public class FindPersonCommand extends Command {
 
     /**
      * Stores the predicates to search the address book with. Each non-empty field value will be used for filtering.
+     * The fields set are compiled once into a single predicate that checks the cheapest and most selective fields
+     * first.
      */
     public static class FindCompositePredicate implements Predicate<Person> {
         private Predicate<Person> name;
-        private Predicate<Person> room;
+        private RoomValidCheckPredicate room;
         private Predicate<Phone> phone;
         private Predicate<Email> email;
         private Predicate<VaccStatus> vaccStatus;
@@ -90,6 +173,8 @@ public class FindPersonCommand extends Command {
         private VaccStatus eVaccStatus;
         private Faculty eFaculty;
 
+        private Predicate<Person> compiled;
+
         public FindCompositePredicate() {}
 
         /**
@@ -120,39 +205,51 @@ public class FindPersonCommand extends Command {
         public void setName(Name name) {
             this.eName = new Name(String.join(" ", name.fullName.split("\\s+")));
             this.name = new NameContainsKeywordsPredicate(Arrays.asList(name.fullName.split("\\s+")));
+            this.compiled = null;
         }
 
         public void setRoom(String room) {
             this.eRoom = room;
             this.room = new RoomValidCheckPredicate(room);
+            this.compiled = null;
         }
 
         public void setPhone(Phone phone) {
             this.ePhone = phone;
             this.phone = phone::equals;
+            this.compiled = null;
         }
 
         public void setEmail(Email email) {
             this.eEmail = email;
             this.email = email::equals;
+            this.compiled = null;
         }
 
         public void setVaccStatus(VaccStatus vaccStatus) {
             this.eVaccStatus = vaccStatus;
             this.vaccStatus = vaccStatus::equals;
+            this.compiled = null;
         }
 
         public void setFaculty(Faculty faculty) {
             this.eFaculty = faculty;
             this.faculty = faculty::equals;
+            this.compiled = null;
         }
 
-        public Optional<Predicate<Person>> getName() {
-            return Optional.ofNullable(name);
+        /**
+         * Returns a copy of this predicate that does not filter by name.
+         */
+        public FindCompositePredicate withoutName() {
+            FindCompositePredicate copy = new FindCompositePredicate(this);
+            copy.name = null;
+            copy.eName = null;
+            return copy;
         }
 
-        private Optional<Predicate<Person>> getRoom() {
-            return Optional.ofNullable(room);
+        public Optional<Predicate<Person>> getName() {
+            return Optional.ofNullable(name);
         }
 
         public Optional<Predicate<Phone>> getPhone() {
@@ -163,12 +260,29 @@ public class FindPersonCommand extends Command {
             return Optional.ofNullable(email);
         }
 
-        private Optional<Predicate<VaccStatus>> getVaccStatus() {
-            return Optional.ofNullable(vaccStatus);
+        /**
+         * Returns the ranges of rooms filtered with, if any, to look up in the room index.
+         */
+        public Optional<List<RoomRange>> getRoomRanges() {
+            return Optional.ofNullable(room).map(RoomValidCheckPredicate::getRanges);
+        }
+
+        /**
+         * Returns the words of the name filtered with, if any, to look up in the name index.
+         */
+        public Optional<List<String>> getNameWords() {
+            return Optional.ofNullable(eName).map(n -> Arrays.asList(n.fullName.split("\\s+")));
         }
 
-        private Optional<Predicate<Faculty>> getFaculty() {
-            return Optional.ofNullable(faculty);
+        /**
+         * Returns the vaccination status, faculty, block and level filtered with, if any of them are, to look up in
+         * the attribute indexes.
+         */
+        public Optional<AttributeFilter> getAttributeFilter() {
+            String blockLevel = eRoom == null || Room.isValidRoomRange(eRoom) ? null : eRoom;
+            return eVaccStatus != null || eFaculty != null || blockLevel != null
+                    ? Optional.of(new AttributeFilter(eVaccStatus, eFaculty, blockLevel))
+                    : Optional.empty();
         }
 
         /**
@@ -179,18 +293,57 @@ public class FindPersonCommand extends Command {
          */
         @Override
         public boolean test(Person person) {
-            List<Predicate<Person>> allPredicates = Arrays.asList(
-                p -> getName().orElse(x -> true).test(p),
-                p -> getRoom().orElse(x -> true).test(p),
-                p -> getPhone().orElse(x -> true).test(p.getPhone()),
-                p -> getEmail().orElse(x -> true).test(p.getEmail()),
-                p -> getVaccStatus().orElse(x -> true).test(p.getVaccStatus()),
-                p -> getFaculty().orElse(x -> true).test(p.getFaculty()));
-
-            return allPredicates
-                    .stream()
-                    .reduce(p -> true, Predicate::and)
-                    .test(person);
+            if (compiled == null) {
+                compiled = compile();
+            }
+            return compiled.test(person);
+        }
+
+        /**
+         * Returns a predicate that checks only the fields set, with the checks on vaccination status and faculty,
+         * which compare a single value, before those on room and name.
+         */
+        private Predicate<Person> compile() {
+            List<Predicate<Person>> checks = new ArrayList<>();
+            if (vaccStatus != null) {
+                Predicate<VaccStatus> vaccStatusCheck = vaccStatus;
+                checks.add(p -> vaccStatusCheck.test(p.getVaccStatus()));
+            }
+            if (faculty != null) {
+                Predicate<Faculty> facultyCheck = faculty;
+                checks.add(p -> facultyCheck.test(p.getFaculty()));
+            }
+            if (phone != null) {
+                Predicate<Phone> phoneCheck = phone;
+                checks.add(p -> phoneCheck.test(p.getPhone()));
+            }
+            if (email != null) {
+                Predicate<Email> emailCheck = email;
+                checks.add(p -> emailCheck.test(p.getEmail()));
+            }
+            if (room != null) {
+                checks.add(room);
+            }
+            if (name != null) {
+                checks.add(name);
+            }
+
+            switch (checks.size()) {
+            case 0:
+                return p -> true;
+            case 1:
+                return checks.get(0);
+            default:
+                List<Predicate<Person>> allChecks = List.copyOf(checks);
+                return p -> {
+                    for (Predicate<Person> check : allChecks) {
+                        if (!check.test(p)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                };
+            }
         }
 
         @Override
@@ -8,6 +8,7 @@ import java.util.regex.Pattern;
 
 import safeforhall.logic.commands.ClearCommand;
 import safeforhall.logic.commands.Command;
+import safeforhall.logic.commands.CountCommand;
 import safeforhall.logic.commands.DeadlineCommand;
 import safeforhall.logic.commands.ExcludeCommand;
 import safeforhall.logic.commands.ExitCommand;
@@ -121,6 +122,9 @@ public class AddressBookParser {
         case DeadlineCommand.COMMAND_WORD:
             return new DeadlineCommandParser().parse(arguments);
 
+        case CountCommand.COMMAND_WORD:
+            return new CountCommandParser().parse(arguments);
+
         case ViewPersonCommand.COMMAND_WORD:
             return new ViewPersonCommandParser().parse(arguments);
 
@@ -0,0 +1,52 @@
+package safeforhall.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static safeforhall.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import safeforhall.logic.commands.CountCommand;
+import safeforhall.logic.parser.exceptions.ParseException;
+import safeforhall.model.person.AttributeFilter;
+import safeforhall.model.person.Faculty;
+import safeforhall.model.person.Room;
+import safeforhall.model.person.VaccStatus;
+
+/**
+ * Parses input arguments and creates a new CountCommand object
+ */
+public class CountCommandParser implements Parser<CountCommand> {
+
+    private static final int MAX_BLOCK_LEVEL_LENGTH = 2;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the CountCommand
+     * and returns a CountCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public CountCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, CliSyntax.PREFIX_ROOM,
+                CliSyntax.PREFIX_VACCSTATUS, CliSyntax.PREFIX_FACULTY);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CountCommand.MESSAGE_USAGE));
+        }
+
+        String blockLevel = null;
+        if (argMultimap.getValue(CliSyntax.PREFIX_ROOM).isPresent()) {
+            blockLevel = argMultimap.getValue(CliSyntax.PREFIX_ROOM).get().trim();
+            if (blockLevel.length() > MAX_BLOCK_LEVEL_LENGTH || !Room.isValidRoomForFind(blockLevel)) {
+                throw new ParseException(CountCommand.MESSAGE_INVALID_ROOM);
+            }
+        }
+        VaccStatus vaccStatus = null;
+        if (argMultimap.getValue(CliSyntax.PREFIX_VACCSTATUS).isPresent()) {
+            vaccStatus = ParserUtil.parseVaccStatus(argMultimap.getValue(CliSyntax.PREFIX_VACCSTATUS).get());
+        }
+        Faculty faculty = null;
+        if (argMultimap.getValue(CliSyntax.PREFIX_FACULTY).isPresent()) {
+            faculty = ParserUtil.parseFaculty(argMultimap.getValue(CliSyntax.PREFIX_FACULTY).get());
+        }
+
+        return new CountCommand(new AttributeFilter(vaccStatus, faculty, blockLevel));
+    }
+}
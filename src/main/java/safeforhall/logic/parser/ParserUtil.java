@@ -154,7 +154,7 @@ public class ParserUtil {
         if (!VaccStatus.isValidVaccStatus(trimmedVaccStatus)) {
             throw new ParseException(VaccStatus.MESSAGE_CONSTRAINTS);
         }
-        return new VaccStatus(trimmedVaccStatus);
+        return VaccStatus.of(trimmedVaccStatus);
     }
 
     /**
@@ -169,7 +169,7 @@ public class ParserUtil {
         if (!Faculty.isValidFaculty(trimmedFaculty)) {
             throw new ParseException(Faculty.MESSAGE_CONSTRAINTS);
         }
-        return new Faculty(trimmedFaculty);
+        return Faculty.of(trimmedFaculty);
     }
 
     /**
@@ -188,7 +188,7 @@ public class ParserUtil {
             throw new ParseException(LastDate.MESSAGE_IS_FUTURE_DATE);
         }
 
-        return new LastDate(trimmedDate);
+        return LastDate.of(trimmedDate);
     }
 
     /**
@@ -233,7 +233,7 @@ public class ParserUtil {
         if (!EventTime.isValidEventTime(trimmedEventTime)) {
             throw new ParseException(EventTime.MESSAGE_CONSTRAINTS);
         }
-        return new EventTime(trimmedEventTime);
+        return EventTime.of(trimmedEventTime);
     }
 
     /**
@@ -248,7 +248,7 @@ public class ParserUtil {
         if (!Venue.isValidVenue(trimmedVenue)) {
             throw new ParseException(Venue.MESSAGE_CONSTRAINTS);
         }
-        return new Venue(trimmedVenue);
+        return Venue.of(trimmedVenue);
     }
 
     /**
@@ -2,27 +2,48 @@ package safeforhall.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import safeforhall.logic.commands.exceptions.CommandException;
 import safeforhall.model.event.Event;
 import safeforhall.model.event.EventName;
+import safeforhall.model.event.ResidentList;
 import safeforhall.model.event.UniqueEventList;
+import safeforhall.model.person.AttributeFilter;
 import safeforhall.model.person.Name;
 import safeforhall.model.person.Person;
 import safeforhall.model.person.Room;
+import safeforhall.model.person.RoomRange;
 import safeforhall.model.person.UniquePersonList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * <p>
+ * Every change gets a version that no other address book has, and the changes to single persons and events are kept
+ * in a change log, so that storages can write out only what changed since the version they last saved. Replacing
+ * whole lists starts a new change log.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /** The number of changes kept in the change log before it is started over. */
+    public static final int CHANGE_LOG_CAPACITY = 1000;
+
+    private static final AtomicLong LAST_VERSION = new AtomicLong();
+
     private final UniquePersonList persons;
     private final UniqueEventList events;
+    private final List<AddressBookChange> changeLog = new ArrayList<>();
+    private long version = LAST_VERSION.incrementAndGet();
+    // The version before the first change in the change log
+    private long changeLogVersion = version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -54,6 +75,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        restartChangeLog();
     }
 
     /**
@@ -61,7 +83,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code events} must not contain duplicate events.
      */
     public void setEvents(List<Event> events) {
-        this.events.setEvents(events);
+        this.events.setEvents(events.stream().map(this::withResidentsResolved).collect(Collectors.toList()));
+        restartChangeLog();
     }
 
     /**
@@ -105,7 +128,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        Person added = persons.add(p);
+        version = LAST_VERSION.incrementAndGet();
+        logChange(AddressBookChange.setPerson(AddressBookChange.NO_INDEX, added, version));
     }
 
     /**
@@ -113,7 +138,31 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The event must not already exist in the address book.
      */
     public void addEvent(Event e) {
-        events.add(e);
+        Event added = events.add(withResidentsResolved(e));
+        version = LAST_VERSION.incrementAndGet();
+        logChange(AddressBookChange.setEvent(AddressBookChange.NO_INDEX, added, version));
+    }
+
+    /**
+     * Returns {@code event} with every resident replaced by the equal person in the address book, so that residents
+     * read from their stored details share the ids of the persons they were copied from. Residents that are no longer
+     * in the address book are kept, with an id that no person in the address book is given.
+     */
+    private Event withResidentsResolved(Event event) {
+        ResidentList residents = event.getResidentList();
+        ResidentList resolved = residents.withResidentsResolved(this::resolveResident);
+        if (resolved == residents) {
+            return event;
+        }
+        return new Event(event.getId(), event.getEventName(), event.getEventDate(), event.getEventTime(),
+                event.getVenue(), event.getCapacity(), resolved);
+    }
+
+    private Person resolveResident(Person resident) {
+        return persons.findById(resident.getId())
+                .filter(resident::equals)
+                .or(() -> persons.findByRoom(resident.getRoom()).filter(resident::equals))
+                .orElseGet(() -> persons.assignId(resident));
     }
 
     /**
@@ -128,28 +177,103 @@ public class AddressBook implements ReadOnlyAddressBook {
         return Optional.empty();
     }
 
+    /**
+     * Returns the person in the address book with the given {@code room}, if any.
+     */
+    public Optional<Person> findPersonByRoom(Room room) {
+        requireNonNull(room);
+        return persons.findByRoom(room);
+    }
+
+    /**
+     * Returns the persons in the address book staying in any of {@code ranges}, in ascending order of room if the
+     * ranges are.
+     */
+    public List<Person> getPersonsInRooms(List<RoomRange> ranges) {
+        return persons.findInRooms(ranges);
+    }
+
+    /**
+     * Returns the persons in the address book with any of {@code words} as a whole word of their name, ignoring case.
+     */
+    public List<Person> findPersonsByNameWords(List<String> words) {
+        return persons.findByNameWords(words);
+    }
+
+    /**
+     * Returns the persons in the address book with a word in their name that is {@code word}, starts with
+     * {@code word}, or is a misspelling of {@code word}, ranked in that order.
+     */
+    public List<Person> searchPersonsByName(String word) {
+        return persons.searchByName(word);
+    }
+
+    /**
+     * Returns the persons in the address book matching {@code filter}, in no particular order.
+     */
+    public List<Person> getPersonsMatching(AttributeFilter filter) {
+        return persons.findMatching(filter);
+    }
+
+    /**
+     * Returns the number of persons in the address book matching {@code filter}.
+     */
+    public int countPersonsMatching(AttributeFilter filter) {
+        return persons.countMatching(filter);
+    }
+
     /**
      * Finds the person list for an event from the given String.
      */
     public Optional<Person> findPerson(String information) throws CommandException {
         if (Room.isValidRoom(information)) {
-            Room room = new Room(information);
-            for (Person person : persons) {
-                if (person.getRoom().equals(room)) {
-                    return Optional.of(person);
-                }
-            }
+            return persons.findByRoom(new Room(information));
         } else if (Name.isValidName(information)) {
-            Name name = new Name(information);
-            for (Person person : persons) {
-                if (person.getName().equals(name)) {
-                    return Optional.of(person);
-                }
-            }
+            return persons.findByName(new Name(information));
         } else {
             throw new CommandException("Information is neither a room or name");
         }
-        return Optional.empty();
+    }
+
+    /**
+     * Finds the persons for an event from the given String, which is either a room, a range of rooms or a name.
+     */
+    public List<Person> findPersons(String information) throws CommandException {
+        if (Room.isValidRoomRange(information)) {
+            return getPersonsInRooms(RoomRange.parse(information));
+        }
+        return findPerson(information).map(Collections::singletonList).orElse(Collections.emptyList());
+    }
+
+    /**
+     * Returns the events that {@code person} is a resident of, in ascending order of date and time.
+     */
+    public List<Event> getPersonEvents(Person person) {
+        requireNonNull(person);
+        return events.getResidentEvents(person);
+    }
+
+    /**
+     * Returns the events taking place from {@code start} to {@code end} inclusive, in ascending order of date and time.
+     */
+    public List<Event> getEventsBetween(LocalDate start, LocalDate end) {
+        return events.getEventsBetween(start, end);
+    }
+
+    /**
+     * Returns the persons whose FET deadline, or collection deadline if {@code keyword} is not "f", is from
+     * {@code start} to {@code end} inclusive.
+     */
+    public List<Person> getPersonsDueBetween(String keyword, LocalDate start, LocalDate end) {
+        return persons.findDueBetween(keyword, start, end);
+    }
+
+    /**
+     * Returns the persons whose FET deadline, or collection deadline if {@code keyword} is not "f", is before
+     * {@code date}.
+     */
+    public List<Person> getPersonsDueBefore(String keyword, LocalDate date) {
+        return persons.findDueBefore(keyword, date);
     }
 
     /**
@@ -160,7 +284,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        int index = persons.setPerson(target, editedPerson);
+        version = LAST_VERSION.incrementAndGet();
+        logChange(AddressBookChange.setPerson(index, getPersonList().get(index), version));
     }
 
     /**
@@ -171,7 +297,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setEvent(Event target, Event editedEvent) {
         requireNonNull(editedEvent);
 
-        events.setEvent(target, editedEvent);
+        int index = events.setEvent(target, withResidentsResolved(editedEvent));
+        version = LAST_VERSION.incrementAndGet();
+        logChange(AddressBookChange.setEvent(index, getEventList().get(index), version));
     }
 
     /**
@@ -179,7 +307,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        int index = persons.remove(key);
+        version = LAST_VERSION.incrementAndGet();
+        logChange(AddressBookChange.removePerson(index, version));
     }
 
     /**
@@ -187,11 +317,44 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeEvent(Event key) {
-        events.remove(key);
+        int index = events.remove(key);
+        version = LAST_VERSION.incrementAndGet();
+        logChange(AddressBookChange.removeEvent(index, version));
     }
 
     //// util methods
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the changes made since the address book was at {@code version}, oldest first, or an empty
+     * {@code Optional} if they are not all in the change log. The list returned is a view of the change log, which
+     * is only valid until the next change.
+     */
+    @Override
+    public Optional<List<AddressBookChange>> getChangesSince(long version) {
+        return AddressBookChange.since(changeLog, changeLogVersion, version);
+    }
+
+    private void logChange(AddressBookChange change) {
+        if (changeLog.size() < CHANGE_LOG_CAPACITY) {
+            changeLog.add(change);
+        } else {
+            // storages then write out the whole address book once, rather than the log being kept forever
+            changeLog.clear();
+            changeLogVersion = version;
+        }
+    }
+
+    private void restartChangeLog() {
+        version = LAST_VERSION.incrementAndGet();
+        changeLog.clear();
+        changeLogVersion = version;
+    }
+
     @Override
     public String toString() {
         return persons.asUnmodifiableObservableList().size() + " persons";
@@ -0,0 +1,120 @@
+package safeforhall.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import safeforhall.model.event.Event;
+import safeforhall.model.person.Person;
+
+/**
+ * Represents a single change made to the person or event list of an address book, as it was made.
+ * Persons and events are referred to by their position in the list at the time of the change, and additions are
+ * always to the end of the list.
+ * Guarantees: immutable
+ */
+public class AddressBookChange {
+
+    /** The index of changes that add to the end of a list. */
+    public static final int NO_INDEX = -1;
+
+    /**
+     * The kinds of changes.
+     */
+    public enum Type {
+        ADD_PERSON, SET_PERSON, REMOVE_PERSON,
+        ADD_EVENT, SET_EVENT, REMOVE_EVENT
+    }
+
+    private final Type type;
+    private final int index;
+    private final Person person;
+    private final Event event;
+    private final long version;
+
+    private AddressBookChange(Type type, int index, Person person, Event event, long version) {
+        this.type = type;
+        this.index = index;
+        this.person = person;
+        this.event = event;
+        this.version = version;
+    }
+
+    /**
+     * Returns the change of {@code person} being added to the end of the person list, or replacing the person at
+     * {@code index} if it is not {@code NO_INDEX}, which leaves the address book at {@code version}.
+     */
+    public static AddressBookChange setPerson(int index, Person person, long version) {
+        requireNonNull(person);
+        return new AddressBookChange(index == NO_INDEX ? Type.ADD_PERSON : Type.SET_PERSON, index, person, null,
+                version);
+    }
+
+    /**
+     * Returns the change of the person at {@code index} being removed, which leaves the address book at
+     * {@code version}.
+     */
+    public static AddressBookChange removePerson(int index, long version) {
+        return new AddressBookChange(Type.REMOVE_PERSON, index, null, null, version);
+    }
+
+    /**
+     * Returns the change of {@code event} being added to the end of the event list, or replacing the event at
+     * {@code index} if it is not {@code NO_INDEX}, which leaves the address book at {@code version}.
+     */
+    public static AddressBookChange setEvent(int index, Event event, long version) {
+        requireNonNull(event);
+        return new AddressBookChange(index == NO_INDEX ? Type.ADD_EVENT : Type.SET_EVENT, index, null, event,
+                version);
+    }
+
+    /**
+     * Returns the change of the event at {@code index} being removed, which leaves the address book at
+     * {@code version}.
+     */
+    public static AddressBookChange removeEvent(int index, long version) {
+        return new AddressBookChange(Type.REMOVE_EVENT, index, null, null, version);
+    }
+
+    /**
+     * Returns the changes in {@code log} made after the address book was at {@code version}, where {@code log} holds
+     * every change made since the address book was at {@code logVersion}, oldest first. <br>
+     * An empty {@code Optional} is returned if {@code version} is not {@code logVersion} or the version left by one of
+     * the changes in {@code log}.
+     */
+    public static Optional<List<AddressBookChange>> since(List<AddressBookChange> log, long logVersion,
+            long version) {
+        if (version == logVersion) {
+            return Optional.of(Collections.unmodifiableList(log));
+        }
+        // changes are usually asked for soon after they are made, so the log is searched from its end
+        for (int i = log.size() - 1; i >= 0; i--) {
+            if (log.get(i).version == version) {
+                return Optional.of(Collections.unmodifiableList(log.subList(i + 1, log.size())));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
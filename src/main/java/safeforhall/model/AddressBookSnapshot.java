@@ -0,0 +1,67 @@
+package safeforhall.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import safeforhall.model.event.Event;
+import safeforhall.model.person.Person;
+
+/**
+ * A copy of the person and event lists of an address book at the time it was taken, and of the changes made to it
+ * since it was at a given version, if they are known.
+ * Taking a snapshot only copies the lists, without building the indexes an {@code AddressBook} keeps.
+ * Guarantees: immutable
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+    private final ObservableList<Person> persons;
+    private final ObservableList<Event> events;
+    private final long version;
+    private final long sinceVersion;
+    private final List<AddressBookChange> changes;
+
+    /**
+     * Creates a snapshot of {@code source}, without any of its changes.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook source) {
+        this(source, source.getVersion());
+    }
+
+    /**
+     * Creates a snapshot of {@code source}, with the changes made to it since it was at {@code sinceVersion}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook source, long sinceVersion) {
+        requireNonNull(source);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getPersonList()));
+        events = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getEventList()));
+        version = source.getVersion();
+        this.sinceVersion = sinceVersion;
+        changes = source.getChangesSince(sinceVersion).map(ArrayList::new).orElse(null);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return events;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Optional<List<AddressBookChange>> getChangesSince(long version) {
+        return changes == null ? Optional.empty() : AddressBookChange.since(changes, sinceVersion, version);
+    }
+}
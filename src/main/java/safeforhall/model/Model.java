@@ -1,8 +1,10 @@
 package safeforhall.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -11,7 +13,9 @@ import safeforhall.logic.commands.exceptions.CommandException;
 import safeforhall.model.event.Event;
 import safeforhall.model.event.EventName;
 import safeforhall.model.event.ResidentList;
+import safeforhall.model.person.AttributeFilter;
 import safeforhall.model.person.Person;
+import safeforhall.model.person.RoomRange;
 
 /**
  * The API of the Model component.
@@ -159,6 +163,13 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show the persons found by {@code query}, which finds them
+     * again whenever persons are added, edited or deleted.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void updateFilteredPersonListByQuery(PersonQuery query);
+
     /**
      * Updates the filter of the filtered event list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -174,10 +185,61 @@ public interface Model {
     void updateSortedEventList(Comparator<Event> comparator);
 
     /**
-     * Returns an array list of events the specified person is in.
+     * Returns an array list of events the specified person is in, in ascending order of date and time.
      * @param person The person to search for in events
      * @param predicate A predicate to filter given events by
      * @return The array list of events
      */
     ArrayList<Event> getPersonEvents(Person person, Predicate<Event> predicate);
+
+    /**
+     * Returns the summary of the shown events that {@code person} is in and of their missed fet deadline as of
+     * today. The summary is kept until the address book, the shown events or the date changes.
+     */
+    PersonSummary getPersonSummary(Person person);
+
+    /**
+     * Returns the shown events taking place from {@code start} to {@code end} inclusive, in ascending order of date
+     * and time.
+     */
+    List<Event> getEventsBetween(LocalDate start, LocalDate end);
+
+    /**
+     * Returns the persons whose FET deadline, or collection deadline if {@code keyword} is not "f", is from
+     * {@code start} to {@code end} inclusive.
+     */
+    List<Person> getPersonsDueBetween(String keyword, LocalDate start, LocalDate end);
+
+    /**
+     * Returns the persons whose FET deadline, or collection deadline if {@code keyword} is not "f", is before
+     * {@code date}.
+     */
+    List<Person> getPersonsDueBefore(String keyword, LocalDate date);
+
+    /**
+     * Returns the persons in the address book staying in any of {@code ranges}, in ascending order of room if the
+     * ranges are.
+     */
+    List<Person> getPersonsInRooms(List<RoomRange> ranges);
+
+    /**
+     * Returns the persons in the address book with any of {@code words} as a whole word of their name, ignoring case.
+     */
+    List<Person> findPersonsByNameWords(List<String> words);
+
+    /**
+     * Returns the persons in the address book with a word in their name that is {@code word}, starts with
+     * {@code word}, or is a misspelling of {@code word}, ranked in that order.
+     */
+    List<Person> searchPersonsByName(String word);
+
+    /**
+     * Returns the persons in the address book matching {@code filter}, in no particular order.
+     */
+    List<Person> getPersonsMatching(AttributeFilter filter);
+
+    /**
+     * Returns the number of persons in the address book matching {@code filter}.
+     */
+    int countPersonsMatching(AttributeFilter filter);
 }
@@ -4,9 +4,17 @@ import static java.util.Objects.requireNonNull;
 import static safeforhall.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -19,7 +27,10 @@ import safeforhall.logic.commands.exceptions.CommandException;
 import safeforhall.model.event.Event;
 import safeforhall.model.event.EventName;
 import safeforhall.model.event.ResidentList;
+import safeforhall.model.person.AttributeFilter;
 import safeforhall.model.person.Person;
+import safeforhall.model.person.PersonIdSet;
+import safeforhall.model.person.RoomRange;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -37,6 +48,15 @@ public class ModelManager implements Model {
     private final FilteredList<Person> singlePerson;
     private final FilteredList<Event> singleEvent;
 
+    // The query the filtered person list shows the results of, if it is not filtered by a predicate
+    private PersonQuery personQuery;
+
+    // Summaries of persons by their ids, dropped when the person or their events change, and all dropped when the
+    // shown events or the date change
+    private final Map<Integer, PersonSummary> personSummaries = new HashMap<>();
+    private Predicate<? super Event> personSummariesEventPredicate;
+    private LocalDate personSummariesDate;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -100,6 +120,8 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        personSummaries.clear();
+        refreshPersonQuery();
     }
 
     @Override
@@ -121,21 +143,25 @@ public class ModelManager implements Model {
             return personList;
         }
 
+        // persons found by several pieces of information are only added once, going by their ids
+        Set<Integer> addedIds = new HashSet<>();
         for (String information : residentInformation) {
-            Optional<Person> personFound;
-            personFound = addressBook.findPerson(information);
+            List<Person> personsFound = addressBook.findPersons(information);
 
-            if (personFound.isEmpty()) {
+            if (personsFound.isEmpty()) {
                 throw new CommandException("No resident with this information '" + information + "' could be found");
-            } else if (!personList.contains(personFound.get())) {
-                personList.add(personFound.get());
+            }
+            for (Person person : personsFound) {
+                if (addedIds.add(person.getId())) {
+                    personList.add(person);
+                }
             }
         }
         return personList;
     }
 
     /**
-     * Reads a string of name from {@code ResidentList} and return an Arraylist of {@code Person}
+     * Looks up the residents of {@code ResidentList} by name and returns them as an Arraylist of {@code Person}
      */
     @Override
     public ArrayList<Person> getCurrentEventResidents(ResidentList residentList) throws CommandException {
@@ -143,16 +169,17 @@ public class ModelManager implements Model {
         ArrayList<Person> personList = new ArrayList<>();
         if (residentList.isEmpty()) {
             return personList;
+        } else if (residentList.getResidents().isEmpty()) {
+            // only the rooms or names were given, which have yet to be resolved against the address book
+            return toPersonList(residentList);
         }
-        String[] residentInformation = residentList.getResidentsStorage().split("\\s*,\\s*");
 
-        for (String information : residentInformation) {
-            String[] informationList = information.split("\\s*;\\s*");
+        for (Person resident : residentList.getResidents()) {
             Optional<Person> personFound;
-            personFound = addressBook.findPerson(informationList[0]);
+            personFound = addressBook.findPerson(resident.getName().toString());
 
             if (personFound.isEmpty()) {
-                throw new CommandException("No event with this information '" + information + "' could be found");
+                throw new CommandException("No event with this information '" + resident + "' could be found");
             } else {
                 personList.add(personFound.get());
             }
@@ -182,10 +209,7 @@ public class ModelManager implements Model {
         ArrayList<String> residentInformation = event.getStringResidentList();
 
         for (String information : residentInformation) {
-            Optional<Person> personFound;
-            personFound = addressBook.findPerson(information);
-
-            if (personFound.isEmpty()) {
+            if (addressBook.findPersons(information).isEmpty()) {
                 return information;
             }
         }
@@ -212,11 +236,14 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        personSummaries.remove(target.getId());
+        refreshPersonQuery();
     }
 
     @Override
     public void deleteEvent(Event target) {
         addressBook.removeEvent(target);
+        forgetSummaries(target);
     }
 
     @Override
@@ -228,6 +255,7 @@ public class ModelManager implements Model {
     @Override
     public void addEvent(Event event) {
         addressBook.addEvent(event);
+        forgetSummaries(event);
         updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
     }
 
@@ -236,6 +264,8 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        personSummaries.remove(target.getId());
+        refreshPersonQuery();
     }
 
     @Override
@@ -243,6 +273,24 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedEvent);
 
         addressBook.setEvent(target, editedEvent);
+        forgetSummaries(target);
+        forgetSummaries(editedEvent);
+    }
+
+    /**
+     * Drops the summaries of the residents of {@code event}, as they have changed with it.
+     */
+    private void forgetSummaries(Event event) {
+        ResidentList residents = event.getResidentList();
+        PersonIdSet residentIds = residents.getResidentIds();
+        if (residentIds.size() < residents.getResidentListSize()) {
+            // some residents have yet to be given ids, so the summaries they change cannot be told apart
+            personSummaries.clear();
+            return;
+        }
+        for (int residentId : residentIds.toArray()) {
+            personSummaries.remove(residentId);
+        }
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -296,9 +344,30 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        personQuery = null;
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonListByQuery(PersonQuery query) {
+        requireNonNull(query);
+        personQuery = query;
+        refreshPersonQuery();
+    }
+
+    /**
+     * Shows the persons found by the query the filtered person list is showing the results of, if any, again, as
+     * the persons it finds may have changed.
+     */
+    private void refreshPersonQuery() {
+        if (personQuery == null) {
+            return;
+        }
+        Set<Person> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        found.addAll(personQuery.findPersons(this));
+        filteredPersons.setPredicate(found::contains);
+    }
+
     @Override
     public void updateFilteredEventList(Predicate<Event> predicate) {
         requireNonNull(predicate);
@@ -307,17 +376,84 @@ public class ModelManager implements Model {
 
     @Override
     public ArrayList<Event> getPersonEvents(Person person, Predicate<Event> predicate) {
+        requireAllNonNull(person, predicate);
+        Predicate<? super Event> shownPredicate = filteredEvents.getPredicate();
         ArrayList<Event> events = new ArrayList<>();
-        for (Event e: filteredEvents.filtered(predicate)) {
-            if (e.getResidentList().getResidents().contains(person)) {
-                if (!events.contains(e)) {
-                    events.add(e);
-                }
+        for (Event e : addressBook.getPersonEvents(person)) {
+            if ((shownPredicate == null || shownPredicate.test(e)) && predicate.test(e)) {
+                events.add(e);
             }
         }
         return events;
     }
 
+    @Override
+    public PersonSummary getPersonSummary(Person person) {
+        requireNonNull(person);
+        LocalDate today = LocalDate.now();
+        Predicate<? super Event> shownPredicate = filteredEvents.getPredicate();
+        if (shownPredicate != personSummariesEventPredicate || !today.equals(personSummariesDate)) {
+            personSummaries.clear();
+            personSummariesEventPredicate = shownPredicate;
+            personSummariesDate = today;
+        }
+        return personSummaries.computeIfAbsent(person.getId(), id ->
+                PersonSummary.of(person, getPersonEvents(person, event -> true), today));
+    }
+
+    @Override
+    public List<Event> getEventsBetween(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        Predicate<? super Event> shownPredicate = filteredEvents.getPredicate();
+        List<Event> events = addressBook.getEventsBetween(start, end);
+        if (shownPredicate != null) {
+            events.removeIf(event -> !shownPredicate.test(event));
+        }
+        return events;
+    }
+
+    @Override
+    public List<Person> getPersonsDueBetween(String keyword, LocalDate start, LocalDate end) {
+        requireAllNonNull(keyword, start, end);
+        return addressBook.getPersonsDueBetween(keyword, start, end);
+    }
+
+    @Override
+    public List<Person> getPersonsDueBefore(String keyword, LocalDate date) {
+        requireAllNonNull(keyword, date);
+        return addressBook.getPersonsDueBefore(keyword, date);
+    }
+
+    @Override
+    public List<Person> getPersonsInRooms(List<RoomRange> ranges) {
+        requireNonNull(ranges);
+        return addressBook.getPersonsInRooms(ranges);
+    }
+
+    @Override
+    public List<Person> findPersonsByNameWords(List<String> words) {
+        requireNonNull(words);
+        return addressBook.findPersonsByNameWords(words);
+    }
+
+    @Override
+    public List<Person> searchPersonsByName(String word) {
+        requireNonNull(word);
+        return addressBook.searchPersonsByName(word);
+    }
+
+    @Override
+    public List<Person> getPersonsMatching(AttributeFilter filter) {
+        requireNonNull(filter);
+        return addressBook.getPersonsMatching(filter);
+    }
+
+    @Override
+    public int countPersonsMatching(AttributeFilter filter) {
+        requireNonNull(filter);
+        return addressBook.countPersonsMatching(filter);
+    }
+
     //=========== Sorted List =============================================================
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
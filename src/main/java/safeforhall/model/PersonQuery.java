@@ -0,0 +1,18 @@
+package safeforhall.model;
+
+import java.util.List;
+
+import safeforhall.model.person.Person;
+
+/**
+ * Finds the persons to show in the filtered person list by looking them up in the indexes of a {@code Model}, rather
+ * than by testing every person.
+ */
+@FunctionalInterface
+public interface PersonQuery {
+
+    /**
+     * Returns the persons in the address book of {@code model} to show.
+     */
+    List<Person> findPersons(Model model);
+}
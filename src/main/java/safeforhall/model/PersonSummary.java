@@ -0,0 +1,85 @@
+package safeforhall.model;
+
+import static java.util.Objects.requireNonNull;
+import static safeforhall.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import safeforhall.model.event.Event;
+import safeforhall.model.person.Person;
+
+/**
+ * Represents what is shown about a {@code Person} beyond their own details: the events they are in, and how late
+ * their fet is on a given date.
+ * Guarantees: immutable.
+ */
+public class PersonSummary {
+
+    public static final String NO_EVENTS = "None";
+
+    private final String eventNames;
+    private final int missedDays;
+
+    /**
+     * Constructs a {@code PersonSummary} with the given event names and number of days the fet is late by.
+     */
+    public PersonSummary(String eventNames, int missedDays) {
+        requireNonNull(eventNames);
+        this.eventNames = eventNames;
+        this.missedDays = missedDays;
+    }
+
+    /**
+     * Returns the summary of {@code person}, who is a resident of {@code events}, on {@code date}.
+     */
+    public static PersonSummary of(Person person, List<Event> events, LocalDate date) {
+        requireAllNonNull(person, events, date);
+        String eventNames = events.isEmpty()
+                ? NO_EVENTS
+                : events.stream().map(event -> event.getEventName().eventName).collect(Collectors.joining(", "));
+        long deadlinePeriod = person.getFetDeadlinePeriod(date);
+        return new PersonSummary(eventNames, deadlinePeriod > 0 ? (int) deadlinePeriod : -1);
+    }
+
+    /**
+     * Returns the names of the events, separated by commas, or {@link #NO_EVENTS} if there are none.
+     */
+    public String getEventNames() {
+        return eventNames;
+    }
+
+    /**
+     * Returns true if the person has missed their fet deadline.
+     */
+    public boolean hasMissedDeadline() {
+        return missedDays > 0;
+    }
+
+    /**
+     * Returns the number of days the person has missed their fet deadline by, or -1 if they have not missed it.
+     */
+    public int getMissedDays() {
+        return missedDays;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonSummary // instanceof handles nulls
+                && eventNames.equals(((PersonSummary) other).eventNames)
+                && missedDays == ((PersonSummary) other).missedDays); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eventNames, missedDays);
+    }
+
+    @Override
+    public String toString() {
+        return "Events: " + eventNames + "; Missed days: " + missedDays;
+    }
+}
@@ -1,5 +1,8 @@
 package safeforhall.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import safeforhall.model.event.Event;
 import safeforhall.model.person.Person;
@@ -20,4 +23,17 @@ public interface ReadOnlyAddressBook {
      * This list will not contain any duplicate events.
      */
     ObservableList<Event> getEventList();
+
+    /**
+     * Returns a number that changes every time the contents of the address book change.
+     */
+    long getVersion();
+
+    /**
+     * Returns the changes made since the address book was at {@code version}, oldest first, or an empty
+     * {@code Optional} if they are not all known.
+     */
+    default Optional<List<AddressBookChange>> getChangesSince(long version) {
+        return Optional.empty();
+    }
 }
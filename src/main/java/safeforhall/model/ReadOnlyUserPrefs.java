@@ -3,6 +3,7 @@ package safeforhall.model;
 import java.nio.file.Path;
 
 import safeforhall.commons.core.GuiSettings;
+import safeforhall.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    StorageFormat getStorageFormat();
+
 }
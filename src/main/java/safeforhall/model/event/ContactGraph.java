@@ -0,0 +1,105 @@
+package safeforhall.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import safeforhall.model.person.Person;
+
+/**
+ * A resident-event bipartite graph built from a fixed set of events, used to trace close contacts.
+ * Residents, keyed by their ids, and events are given dense ordinals so that traversal only deals with int adjacency
+ * arrays.
+ */
+public class ContactGraph {
+
+    private final List<Person> residents = new ArrayList<>();
+    private final Map<Integer, Integer> residentOrdinals = new HashMap<>();
+    private final int[][] eventResidents;
+    private final int[][] residentEvents;
+
+    /**
+     * Builds the contact graph of the given {@code events}.
+     */
+    public ContactGraph(List<Event> events) {
+        requireNonNull(events);
+        eventResidents = new int[events.size()][];
+        List<List<Integer>> eventsOfResident = new ArrayList<>();
+
+        for (int eventOrdinal = 0; eventOrdinal < events.size(); eventOrdinal++) {
+            List<Person> members = events.get(eventOrdinal).getResidentList().getResidents();
+            int[] memberOrdinals = new int[members.size()];
+            for (int i = 0; i < members.size(); i++) {
+                int residentOrdinal = getOrAssignOrdinal(members.get(i), eventsOfResident);
+                memberOrdinals[i] = residentOrdinal;
+                eventsOfResident.get(residentOrdinal).add(eventOrdinal);
+            }
+            eventResidents[eventOrdinal] = memberOrdinals;
+        }
+
+        residentEvents = new int[residents.size()][];
+        for (int residentOrdinal = 0; residentOrdinal < residents.size(); residentOrdinal++) {
+            residentEvents[residentOrdinal] = eventsOfResident.get(residentOrdinal).stream()
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+    }
+
+    private int getOrAssignOrdinal(Person resident, List<List<Integer>> eventsOfResident) {
+        Integer ordinal = residentOrdinals.get(resident.getId());
+        if (ordinal != null) {
+            return ordinal;
+        }
+        residents.add(resident);
+        eventsOfResident.add(new ArrayList<>());
+        residentOrdinals.put(resident.getId(), residents.size() - 1);
+        return residents.size() - 1;
+    }
+
+    /**
+     * Returns the close contacts of {@code source}, found by its id, that are at most {@code maxDepth} links away,
+     * each mapped to the depth at which it was first reached. Contacts are ordered by depth. {@code source} itself is
+     * not included.
+     */
+    public Map<Person, Integer> trace(Person source, int maxDepth) {
+        requireNonNull(source);
+        Map<Person, Integer> contacts = new LinkedHashMap<>();
+        Integer sourceOrdinal = residentOrdinals.get(source.getId());
+        if (sourceOrdinal == null) {
+            return contacts;
+        }
+
+        BitSet visitedResidents = new BitSet(residents.size());
+        BitSet visitedEvents = new BitSet(eventResidents.length);
+        visitedResidents.set(sourceOrdinal);
+        int[] frontier = {sourceOrdinal};
+
+        for (int depth = 1; depth <= maxDepth && frontier.length > 0; depth++) {
+            int[] nextFrontier = new int[residents.size()];
+            int nextSize = 0;
+            for (int residentOrdinal : frontier) {
+                for (int eventOrdinal : residentEvents[residentOrdinal]) {
+                    if (visitedEvents.get(eventOrdinal)) {
+                        continue;
+                    }
+                    visitedEvents.set(eventOrdinal);
+                    for (int contactOrdinal : eventResidents[eventOrdinal]) {
+                        if (!visitedResidents.get(contactOrdinal)) {
+                            visitedResidents.set(contactOrdinal);
+                            nextFrontier[nextSize++] = contactOrdinal;
+                            contacts.put(residents.get(contactOrdinal), depth);
+                        }
+                    }
+                }
+            }
+            frontier = Arrays.copyOf(nextFrontier, nextSize);
+        }
+        return contacts;
+    }
+}
@@ -1,18 +1,23 @@
 package safeforhall.model.event;
 
+import static safeforhall.commons.util.AppUtil.checkArgument;
 import static safeforhall.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.Objects;
 
-import safeforhall.model.person.Person;
 
 /**
  * Represents an Event in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Event {
+    public static final int NO_ID = 0;
+    public static final int MAX_ID = 1_000_000_000;
+    public static final String MESSAGE_ID_CONSTRAINTS = "Event ids should be positive integers of at most " + MAX_ID;
+
     // Identity fields
+    private final int id;
     private final EventName eventName;
     private final EventDate eventDate;
     private final EventTime eventTime;
@@ -21,11 +26,23 @@ public class Event {
     private final ResidentList residents;
 
     /**
-     * Every field must be present
+     * Every field must be present. The event has no id until it is added to an address book.
      */
     public Event(EventName eventName, EventDate eventDate, EventTime eventTime, Venue venue, Capacity capacity,
                  ResidentList residents) {
+        this(NO_ID, eventName, eventDate, eventTime, venue, capacity, residents);
+    }
+
+    /**
+     * Every field must be present and {@code id} must be {@code NO_ID} or valid as declared in
+     * {@link #isValidId(int)}.
+     * Used to keep the id of an event that is edited or read from storage.
+     */
+    public Event(int id, EventName eventName, EventDate eventDate, EventTime eventTime, Venue venue,
+                 Capacity capacity, ResidentList residents) {
         requireAllNonNull(eventName, eventDate, venue, capacity);
+        checkArgument(id == NO_ID || isValidId(id), MESSAGE_ID_CONSTRAINTS);
+        this.id = id;
         this.eventName = eventName;
         this.eventDate = eventDate;
         this.eventTime = eventTime;
@@ -34,6 +51,35 @@ public class Event {
         this.residents = residents;
     }
 
+    /**
+     * Returns true if a given integer is a valid event id.
+     */
+    public static boolean isValidId(int id) {
+        return id > 0 && id <= MAX_ID;
+    }
+
+    /**
+     * Returns the id of this event, which is given by the address book it is added to, kept when the event is edited
+     * and unique within that address book. An event that has yet to be added has {@code NO_ID}.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns this event without an id, so that it is given a new one when added to an address book.
+     */
+    public Event withoutId() {
+        return withId(NO_ID);
+    }
+
+    /**
+     * Returns this event with the given {@code id}.
+     */
+    Event withId(int id) {
+        return new Event(id, eventName, eventDate, eventTime, venue, capacity, residents);
+    }
+
     public EventName getEventName() {
         return eventName;
     }
@@ -79,22 +125,6 @@ public class Event {
                 && otherEvent.getCapacity().equals(getCapacity());
     }
 
-    public String getCombinedStorageString(ArrayList<Person> toAdd) {
-        return residents.getCombinedStorageString(toAdd);
-    }
-
-    public String getCombinedDisplayString(ArrayList<Person> toAdd) {
-        return residents.getCombinedDisplayString(toAdd);
-    }
-
-    public String getRemovedStorageString(ArrayList<Person> toRemove) {
-        return residents.getRemovedStorageString(toRemove);
-    }
-
-    public String getRemovedDisplayString(ArrayList<Person> toRemove) {
-        return residents.getRemovedDisplayString(toRemove);
-    }
-
     /**
      * Checks if residents attending the event are vaccinated
      * @return Returns true if any {@code resident} in the {@code Event} is not vaccinated
@@ -7,6 +7,7 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
+import java.util.regex.Pattern;
 
 public class EventDate implements Comparable<EventDate> {
     public static final String MESSAGE_CONSTRAINTS = "Date inputted has to be a valid date in the format of:\n1. "
@@ -19,9 +20,12 @@ public class EventDate implements Comparable<EventDate> {
     private static final DateTimeFormatter dateFormatter = DateTimeFormatter
             .ofPattern("[dd-MM-uuuu][dd.MM.uuuu][dd/MM/uuuu]")
             .withResolverStyle(ResolverStyle.STRICT);
+    private static final Pattern DATE_SEPARATOR = Pattern.compile("[-./]");
 
     public final String eventDate;
 
+    private final long epochDay;
+
     /**
      * Constructs a {@code EventDate}.
      *
@@ -29,36 +33,51 @@ public class EventDate implements Comparable<EventDate> {
      */
     public EventDate(String date) {
         requireNonNull(date);
-        checkArgument(isValidEventDate(date), MESSAGE_CONSTRAINTS);
-        String[] dayMonthYear = date.split("[-./]");
+        LocalDate localDate = parse(date);
+        checkArgument(localDate != null, MESSAGE_CONSTRAINTS);
+        String[] dayMonthYear = DATE_SEPARATOR.split(date);
         assert dayMonthYear.length == 3;
         this.eventDate = dayMonthYear[0] + "-" + dayMonthYear[1] + "-" + dayMonthYear[2];
+        this.epochDay = localDate.toEpochDay();
     }
 
     /**
-     * Returns true if a given string is a valid date.
+     * Returns the date in {@code date}, or null if it is not a valid date.
      */
-    public static boolean isValidEventDate(String date) {
+    private static LocalDate parse(String date) {
         try {
-            LocalDate.parse(date, dateFormatter);
+            return LocalDate.parse(date, dateFormatter);
         } catch (DateTimeParseException e) {
-            return false;
+            return null;
         }
-        return true;
+    }
+
+    /**
+     * Returns true if a given string is a valid date.
+     */
+    public static boolean isValidEventDate(String date) {
+        return parse(date) != null;
     }
 
     /**
      * Returns true if the current eventDate is in the past.
      */
     public boolean isPast() {
-        return toLocalDate().isBefore(LocalDate.now());
+        return epochDay < LocalDate.now().toEpochDay();
     }
 
     /**
      * Converts the given {@code EventDate} to a {@code LocalDate}.
      */
     public LocalDate toLocalDate() {
-        return LocalDate.parse(eventDate, dateFormatter);
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Returns the date as a day count from the epoch.
+     */
+    public long toEpochDay() {
+        return epochDay;
     }
 
     @Override
@@ -68,6 +87,11 @@ public class EventDate implements Comparable<EventDate> {
                 && eventDate.equals(((EventDate) other).eventDate)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return eventDate.hashCode();
+    }
+
     @Override
     public String toString() {
         return eventDate;
@@ -75,6 +99,7 @@ public class EventDate implements Comparable<EventDate> {
 
     @Override
     public int compareTo(EventDate date) {
-        return this.toLocalDate().compareTo(date.toLocalDate());
+        // dates are within four digit years, so the number of days between them fits in an int
+        return (int) (this.epochDay - date.epochDay);
     }
 }
@@ -3,6 +3,8 @@ package safeforhall.model.event;
 import static java.util.Objects.requireNonNull;
 import static safeforhall.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 public class EventName implements Comparable<EventName> {
     public static final String MESSAGE_CONSTRAINTS =
             "Event names should only contain alphanumeric characters and spaces, and it should not be blank";
@@ -12,8 +14,11 @@ public class EventName implements Comparable<EventName> {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+
     public static final String FIELD = "n";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String eventName;
 
     /**
@@ -31,7 +36,7 @@ public class EventName implements Comparable<EventName> {
      * Returns true if a given string is a valid event name.
      */
     public static boolean isValidEventName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
@@ -49,7 +54,7 @@ public class EventName implements Comparable<EventName> {
 
     @Override
     public int hashCode() {
-        return eventName.hashCode();
+        return eventName.toLowerCase().hashCode();
     }
 
     @Override
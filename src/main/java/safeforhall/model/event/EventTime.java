@@ -7,14 +7,25 @@ import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
+import safeforhall.commons.util.Interner;
+
+/**
+ * Represents the time an Event starts at.
+ * Guarantees: immutable; is valid as declared in {@link #isValidEventTime(String)}
+ * <p>
+ * Events start at a few common times, so {@link #of(String)} shares one instance per time in use.
+ */
 public class EventTime implements Comparable<EventTime> {
     public static final String MESSAGE_CONSTRAINTS = "EventTime inputted has to be in HHmm format";
     public static final String DESC = "Time: ";
 
     private static final DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HHmm");
+    private static final Interner<String, EventTime> INSTANCES = new Interner<>();
 
     public final String eventTime;
 
+    private final int minuteOfDay;
+
     /**
      * Constructs a {@code EventTime}.
      *
@@ -22,27 +33,52 @@ public class EventTime implements Comparable<EventTime> {
      */
     public EventTime(String time) {
         requireNonNull(time);
-        checkArgument(isValidEventTime(time), MESSAGE_CONSTRAINTS);
+        LocalTime localTime = parse(time);
+        checkArgument(localTime != null, MESSAGE_CONSTRAINTS);
         this.eventTime = time;
+        this.minuteOfDay = localTime.getHour() * 60 + localTime.getMinute();
     }
 
     /**
-     * Returns true if a given string is a valid time.
+     * Returns the shared {@code EventTime} of {@code time}.
+     *
+     * @param time A valid time.
      */
-    public static boolean isValidEventTime(String time) {
+    public static EventTime of(String time) {
+        requireNonNull(time);
+        return INSTANCES.intern(time, () -> new EventTime(time));
+    }
+
+    /**
+     * Returns the time in {@code time}, or null if it is not a valid time.
+     */
+    private static LocalTime parse(String time) {
         try {
-            LocalTime.parse(time, timeFormatter);
+            return LocalTime.parse(time, timeFormatter);
         } catch (DateTimeParseException e) {
-            return false;
+            return null;
         }
-        return true;
+    }
+
+    /**
+     * Returns true if a given string is a valid time.
+     */
+    public static boolean isValidEventTime(String time) {
+        return parse(time) != null;
     }
 
     /**
      * Converts the given {@code EventTime} to a {@code Localtime}.
      */
     public LocalTime toLocalTime() {
-        return LocalTime.parse(eventTime, timeFormatter);
+        return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    /**
+     * Returns the time as a minute count from midnight.
+     */
+    public int toMinuteOfDay() {
+        return minuteOfDay;
     }
 
     @Override
@@ -52,6 +88,11 @@ public class EventTime implements Comparable<EventTime> {
                 && eventTime.equals(((EventTime) other).eventTime)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return eventTime.hashCode();
+    }
+
     @Override
     public String toString() {
         return eventTime;
@@ -59,6 +100,6 @@ public class EventTime implements Comparable<EventTime> {
 
     @Override
     public int compareTo(EventTime time) {
-        return this.toLocalTime().compareTo(time.toLocalTime());
+        return this.minuteOfDay - time.minuteOfDay;
     }
 }
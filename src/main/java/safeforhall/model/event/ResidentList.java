@@ -5,12 +5,21 @@ import static safeforhall.commons.util.AppUtil.checkArgument;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import safeforhall.model.person.Email;
 import safeforhall.model.person.Faculty;
 import safeforhall.model.person.LastDate;
 import safeforhall.model.person.Name;
 import safeforhall.model.person.Person;
+import safeforhall.model.person.PersonIdSet;
 import safeforhall.model.person.Phone;
 import safeforhall.model.person.Room;
 import safeforhall.model.person.VaccStatus;
@@ -18,20 +27,23 @@ import safeforhall.model.person.VaccStatus;
 
 public class ResidentList {
     public static final String MESSAGE_CONSTRAINTS =
-            "Information should be all rooms or all names and each piece of information is separated by a comma";
+            "Information should be all rooms or ranges of rooms (e.g. A100-A129), or all names, and each piece of "
+            + "information is separated by a comma";
     public static final String MESSAGE_INCORRECT_FIELDS = "8 fields of comma separated values not found";
     public static final String DESC = "Residents: ";
     public static final String DEFAULT_LIST = "None";
     public static final String EMPTY_STRING = "";
     public static final int NUMBER_OF_RESIDENT_FIELD = 8;
-    private static final String RESIDENTS_SPLIT = "\\s*,\\s*";
-    private static final String RESIDENT_FIELDS_SPLIT = ";\\s*\\w*(\\w*\\s*)*:\\s*";
+    private static final Pattern RESIDENTS_SPLIT = Pattern.compile("\\s*,\\s*");
+    private static final Pattern RESIDENT_FIELDS_SPLIT = Pattern.compile(";\\s*\\w*(\\w*\\s*)*:\\s*");
 
-    private final String residentsDisplay;
-    private final String residentsStorage;
-    private final ArrayList<String> stringResidentList;
+    private final List<Person> residentList;
+    private final PersonIdSet residentIds;
+    private final int unvaccinatedCount;
     private final boolean isEmpty;
-    private final ArrayList<Person> residentList = new ArrayList<>();
+    private String residentsDisplay;
+    private String residentsStorage;
+    private ArrayList<String> stringResidentList;
 
     /**
      * Constructs a {@code ResidentList}.
@@ -45,7 +57,9 @@ public class ResidentList {
         this.isEmpty = residents.equals(DEFAULT_LIST);
         this.residentsDisplay = residents;
         this.residentsStorage = EMPTY_STRING;
-        stringResidentList = new ArrayList<>(Arrays.asList(this.residentsDisplay.split(RESIDENTS_SPLIT)));
+        this.residentList = Collections.emptyList();
+        this.residentIds = PersonIdSet.EMPTY;
+        this.unvaccinatedCount = 0;
     }
 
     /**
@@ -61,17 +75,45 @@ public class ResidentList {
         this.residentsDisplay = residents;
         this.residentsStorage = residentList;
 
+        List<Person> parsedResidents = new ArrayList<>();
         if (!residentList.equals(ResidentList.DEFAULT_LIST)) {
-            String[] residentInformationList = residentList.split(RESIDENTS_SPLIT);
+            String[] residentInformationList = RESIDENTS_SPLIT.split(residentList);
             Arrays.stream(residentInformationList).forEach(residentInformation -> {
-                String[] information = residentInformation.split(RESIDENT_FIELDS_SPLIT);
+                String[] information = RESIDENT_FIELDS_SPLIT.split(residentInformation);
                 if (information.length != 8) {
                     throw new IllegalArgumentException(MESSAGE_INCORRECT_FIELDS);
                 }
-                this.residentList.add(createResident(information));
+                parsedResidents.add(createResident(information));
             });
         }
-        stringResidentList = new ArrayList<>(Arrays.asList(this.residentsDisplay.split(RESIDENTS_SPLIT)));
+        this.residentList = Collections.unmodifiableList(parsedResidents);
+        this.residentIds = PersonIdSet.of(parsedResidents);
+        this.unvaccinatedCount = countUnvaccinated(parsedResidents);
+    }
+
+    /**
+     * Constructs a {@code ResidentList} that already holds the given residents, whose display and storage strings
+     * are only built when first asked for.
+     */
+    private ResidentList(List<Person> residents) {
+        this(residents, null, null);
+    }
+
+    private ResidentList(List<Person> residents, String residentsDisplay, String residentsStorage) {
+        this.residentList = Collections.unmodifiableList(residents);
+        this.residentIds = PersonIdSet.of(residents);
+        this.unvaccinatedCount = countUnvaccinated(residents);
+        this.isEmpty = residents.isEmpty();
+        this.residentsDisplay = residentsDisplay;
+        this.residentsStorage = residentsStorage;
+    }
+
+    /**
+     * Returns a {@code ResidentList} of the given {@code residents}, in the given order.
+     */
+    public static ResidentList fromResidents(List<Person> residents) {
+        requireNonNull(residents);
+        return new ResidentList(new ArrayList<>(residents));
     }
 
     /**
@@ -83,10 +125,19 @@ public class ResidentList {
         if (residents.equals(DEFAULT_LIST)) {
             return true;
         }
-        String[] informationList = residents.split(RESIDENTS_SPLIT);
-        boolean isAllRoom = Arrays.stream(informationList).parallel().allMatch(Room::isValidRoom);
-        boolean isAllName = Arrays.stream(informationList).parallel().allMatch(Name::isValidName);
-        return isAllRoom || isAllName;
+        String[] informationList = RESIDENTS_SPLIT.split(residents);
+        // the first piece decides whether the rest must be rooms or names, so every piece is checked only once
+        boolean isAllRoom = isRoomOrRange(informationList[0]);
+        for (String information : informationList) {
+            if (isAllRoom ? !isRoomOrRange(information) : !Name.isValidName(information)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isRoomOrRange(String information) {
+        return Room.isValidRoom(information) || Room.isValidRoomRange(information);
     }
 
     /**
@@ -98,9 +149,9 @@ public class ResidentList {
         if (residents.equals(DEFAULT_LIST)) {
             return true;
         }
-        String[] residentList = residents.split("\\s*,\\s*");
+        String[] residentList = RESIDENTS_SPLIT.split(residents);
         for (String resident : residentList) {
-            String[] information = resident.split(";\\s*\\w*(\\w*\\s*)*:\\s*");
+            String[] information = RESIDENT_FIELDS_SPLIT.split(resident);
             if (information.length != NUMBER_OF_RESIDENT_FIELD) {
                 return false;
             }
@@ -109,142 +160,80 @@ public class ResidentList {
     }
 
     /**
-     * Returns a string of person details, consisting of past and new residents for the event.
-     *
-     * @param toAdd    A string of residents to add to the event.
-     *
-     * @return A String consisting of past and new residents for the event.
+     * Returns a new {@code ResidentList} consisting of the current residents followed by the residents in
+     * {@code toAdd} that are not already in it.
      */
-    public String getCombinedStorageString(ArrayList<Person> toAdd) {
-        StringBuilder newResidentList;
-
-        if (residentsStorage.equals(DEFAULT_LIST)) {
-            newResidentList = new StringBuilder(EMPTY_STRING);
-        } else {
-            newResidentList = new StringBuilder(residentsStorage);
-        }
-
+    public ResidentList withResidentsAdded(List<Person> toAdd) {
+        requireNonNull(toAdd);
+        List<Person> combined = new ArrayList<>(residentList.size() + toAdd.size());
+        combined.addAll(residentList);
+        Set<Integer> addedIds = new HashSet<>();
         for (Person person : toAdd) {
-            if (!newResidentList.toString().equals(EMPTY_STRING)) {
-                newResidentList.append(", ").append(person);
-            } else {
-                newResidentList.append(person);
+            if (!residentIds.contains(person) && addedIds.add(person.getId())) {
+                combined.add(person);
             }
         }
-
-        if (newResidentList.toString().equals(EMPTY_STRING)) {
-            return DEFAULT_LIST;
-        } else {
-            return newResidentList.toString();
-        }
+        return new ResidentList(combined);
     }
 
     /**
-     * Returns a string of names, consisting of past and new residents for the event.
-     *
-     * @param toAdd    A string of residents to add to the event.
-     *
-     * @return A String consisting of past and new residents for the event.
+     * Returns a new {@code ResidentList} consisting of the current residents whose ids are not those of any person in
+     * {@code toRemove}.
      */
-    public String getCombinedDisplayString(ArrayList<Person> toAdd) {
-        StringBuilder newResidentList;
-
-        if (residentsDisplay.equals(DEFAULT_LIST)) {
-            newResidentList = new StringBuilder(EMPTY_STRING);
-        } else {
-            newResidentList = new StringBuilder(residentsDisplay);
-        }
-
-        for (Person person : toAdd) {
-            if (!newResidentList.toString().equals(EMPTY_STRING)) {
-                newResidentList.append(", ").append(person.getName());
-            } else {
-                newResidentList.append(person.getName());
-            }
-        }
-
-        if (newResidentList.toString().equals(EMPTY_STRING)) {
-            return DEFAULT_LIST;
-        } else {
-            return newResidentList.toString();
-        }
+    public ResidentList withResidentsRemoved(List<Person> toRemove) {
+        requireNonNull(toRemove);
+        PersonIdSet removed = PersonIdSet.of(toRemove);
+        List<Person> remaining = residentList.stream()
+                .filter(person -> !removed.contains(person))
+                .collect(Collectors.toList());
+        return new ResidentList(remaining);
     }
 
     /**
-     * Checks if any {@code resident} is not vaccinated
-     * @return Returns true if any {@code resident} in the {@code ResidentList} is not vaccinated
+     * Returns a {@code ResidentList} with the same display and storage as this one, in which every resident is
+     * replaced by {@code resolver}, such as by the person in the address book that the resident was read from.
      */
-    public boolean hasUnvaccinatedResident() {
-        for (Person person : residentList) {
-            if (!person.isVaccinated()) {
-                return true;
-            }
+    public ResidentList withResidentsResolved(UnaryOperator<Person> resolver) {
+        requireNonNull(resolver);
+        List<Person> resolved = new ArrayList<>(residentList.size());
+        boolean isChanged = false;
+        for (Person resident : residentList) {
+            Person resolvedResident = resolver.apply(resident);
+            isChanged |= resolvedResident != resident;
+            resolved.add(resolvedResident);
         }
-        return false;
+        return isChanged ? new ResidentList(resolved, residentsDisplay, residentsStorage) : this;
     }
 
     /**
-     * Counts the number of unvaccinated residents in the {@code ResidentList}
-     * @return Returns the number of unvaccinated residents in the {@code ResidentList}
+     * Returns true if {@code person} is one of the residents, by id.
      */
-    public int numOfUnvaccinatedResidents() {
-        int total = 0;
-        for (Person person : residentList) {
-            if (!person.isVaccinated()) {
-                total++;
-            }
-        }
-        return total;
+    public boolean contains(Person person) {
+        return residentIds.contains(person);
     }
 
     /**
-     * Returns a string of person details, consisting of the remaining residents for the event.
-     *
-     * @param toRemove    A string of residents to add to the event.
-     *
-     * @return A String consisting of past and new residents for the event.
+     * Returns the ids of the residents. Residents of an event that has yet to be added to an address book may have no
+     * id, and are then left out.
      */
-    public String getRemovedStorageString(ArrayList<Person> toRemove) {
-        StringBuilder newResidentList = new StringBuilder();
-
-        for (Person person : residentList) {
-            if (!toRemove.contains(person) && !newResidentList.toString().equals(EMPTY_STRING)) {
-                newResidentList.append(", ").append(person);
-            } else if (!toRemove.contains(person) && newResidentList.toString().equals(EMPTY_STRING)) {
-                newResidentList.append(person);
-            }
-        }
-
-        if (newResidentList.toString().equals(EMPTY_STRING)) {
-            return DEFAULT_LIST;
-        } else {
-            return newResidentList.toString();
-        }
+    public PersonIdSet getResidentIds() {
+        return residentIds;
     }
 
     /**
-     * Returns a string of names, consisting of the remaining residents for the event.
-     *
-     * @param toRemove    A string of residents to remove from the event.
-     *
-     * @return A String consisting of the remaining residents for the event.
+     * Checks if any {@code resident} is not vaccinated
+     * @return Returns true if any {@code resident} in the {@code ResidentList} is not vaccinated
      */
-    public String getRemovedDisplayString(ArrayList<Person> toRemove) {
-        StringBuilder newResidentList = new StringBuilder();
-
-        for (Person person : residentList) {
-            if (!toRemove.contains(person) && !newResidentList.toString().equals(EMPTY_STRING)) {
-                newResidentList.append(", ").append(person.getName());
-            } else if (!toRemove.contains(person) && newResidentList.toString().equals(EMPTY_STRING)) {
-                newResidentList.append(person.getName());
-            }
-        }
+    public boolean hasUnvaccinatedResident() {
+        return unvaccinatedCount > 0;
+    }
 
-        if (newResidentList.toString().equals(EMPTY_STRING)) {
-            return DEFAULT_LIST;
-        } else {
-            return newResidentList.toString();
-        }
+    /**
+     * Counts the number of unvaccinated residents in the {@code ResidentList}
+     * @return Returns the number of unvaccinated residents in the {@code ResidentList}
+     */
+    public int numOfUnvaccinatedResidents() {
+        return unvaccinatedCount;
     }
 
     /**
@@ -258,14 +247,14 @@ public class ResidentList {
      * Returns the number of residents currently in the event.
      */
     public int getResidentListSize() {
-        return this.residentList.size();
+        return residentList.size();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ResidentList // instanceof handles nulls
-                && residentsDisplay.equals(((ResidentList) other).residentsDisplay)); // state check
+                && getResidentsDisplay().equals(((ResidentList) other).getResidentsDisplay())); // state check
     }
 
     @Override
@@ -274,21 +263,41 @@ public class ResidentList {
     }
 
     public ArrayList<String> getStringResidentList() {
+        if (stringResidentList == null) {
+            stringResidentList = new ArrayList<>(Arrays.asList(RESIDENTS_SPLIT.split(getResidentsDisplay())));
+        }
         return this.stringResidentList;
     }
 
     public String getResidentsStorage() {
+        if (residentsStorage == null) {
+            residentsStorage = joinResidents(Person::toString);
+        }
         return this.residentsStorage;
     }
 
     public String getResidentsDisplay() {
+        if (residentsDisplay == null) {
+            residentsDisplay = joinResidents(person -> person.getName().toString());
+        }
         return this.residentsDisplay;
     }
 
-    public ArrayList<Person> getResidents() {
+    public List<Person> getResidents() {
         return this.residentList;
     }
 
+    private static int countUnvaccinated(List<Person> residents) {
+        return (int) residents.stream().filter(person -> !person.isVaccinated()).count();
+    }
+
+    private String joinResidents(Function<Person, String> mapper) {
+        if (residentList.isEmpty()) {
+            return DEFAULT_LIST;
+        }
+        return residentList.stream().map(mapper).collect(Collectors.joining(", "));
+    }
+
     /**
      * Creates a new {@code resident} from the given information.
      */
@@ -297,10 +306,10 @@ public class ResidentList {
         Room room = new Room(information[1]);
         Phone phone = new Phone(information[2]);
         Email email = new Email(information[3]);
-        VaccStatus vaccStatus = new VaccStatus(information[4]);
-        Faculty faculty = new Faculty(information[5]);
-        LastDate lastFetDate = new LastDate(information[6]);
-        LastDate lastCollectionDate = new LastDate(information[7]);
+        VaccStatus vaccStatus = VaccStatus.of(information[4]);
+        Faculty faculty = Faculty.of(information[5]);
+        LastDate lastFetDate = LastDate.of(information[6]);
+        LastDate lastCollectionDate = LastDate.of(information[7]);
 
         return new Person(name, room, phone, email, vaccStatus, faculty, lastFetDate, lastCollectionDate);
     }
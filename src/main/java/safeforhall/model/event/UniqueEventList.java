@@ -3,90 +3,146 @@ package safeforhall.model.event;
 import static java.util.Objects.requireNonNull;
 import static safeforhall.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import safeforhall.commons.util.IdAllocator;
 import safeforhall.model.event.exceptions.DuplicateEventException;
 import safeforhall.model.event.exceptions.EventNotFoundException;
+import safeforhall.model.person.Person;
 
 /**
  * A list of events that enforces uniqueness between its elements and does not allow nulls.
  * An event is considered unique by comparing using {@code Event#isSameEvent(Event)}. As such, adding and updating of
  * events uses Event#isSameEvent(Event) for equality so as to ensure that the event being added or updated is
  * unique in terms of identity in the UniqueEventList. However, the removal of an event uses Event#equals(Object) so
- * as to ensure that the event with exactly the same fields will be removed.
+ * as to ensure that the event with exactly the same fields will be removed. No two events in the list share an id,
+ * and events are found in the list by their id before falling back to comparing every field. An event added to the
+ * list without an id is given the next id of the list, and an edited event without an id keeps the id of the event it
+ * replaces.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. A hash index on ids, a hash set of the identities of the events, an
+ * index of events by date, and an inverted index from the id of each resident to the events they are in, ordered by
+ * {@code EventDate}, are kept in step with the backing list.
  *
  * @see Event#isSameEvent(Event)
  */
 public class UniqueEventList implements Iterable<Event> {
 
+    private static final Comparator<Event> DATE_ORDER = Comparator.comparing(Event::getEventDate)
+            .thenComparing(Event::getEventTime)
+            .thenComparing(Event::getEventName)
+            .thenComparing(Event::getVenue)
+            .thenComparing(Event::getCapacity)
+            .thenComparing(event -> event.getCapacity().inputCapacity);
+
     private final ObservableList<Event> internalList = FXCollections.observableArrayList();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // The position in the list of the event with each id
+    private final Map<Integer, Integer> idPositions = new HashMap<>();
+    private final Set<List<Object>> identities = new HashSet<>();
+    private final Map<Integer, NavigableSet<Event>> residentEvents = new HashMap<>();
+    private final NavigableMap<LocalDate, NavigableSet<Event>> eventsByDate = new TreeMap<>();
+    private final IdAllocator idAllocator = new IdAllocator(Event.MAX_ID);
 
     /**
      * Returns true if the list contains an equivalent event as the given argument.
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return identities.contains(toIdentity(toCheck));
     }
 
     /**
      * Adds an event to the list.
-     * The event must not already exist in the list.
+     * The event, and its id, must not already exist in the list.
+     *
+     * @return the event added, which has been given an id if it had none.
      */
-    public void add(Event toAdd) {
+    public Event add(Event toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || idPositions.containsKey(toAdd.getId())) {
             throw new DuplicateEventException();
         }
-        internalList.add(toAdd);
+        Event added = assignId(toAdd);
+        internalList.add(added);
+        index(added, internalList.size() - 1);
+        return added;
     }
 
     /**
      * Replaces the event {@code target} in the list with {@code editedEvent}.
      * {@code target} must exist in the list.
-     * The event identity of {@code editedEvent} must not be the same as another existing event in the list.
+     * The event identity and id of {@code editedEvent} must not be the same as another existing event in the list.
+     *
+     * @return the position in the list of the replaced event.
      */
-    public void setEvent(Event target, Event editedEvent) {
+    public int setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new EventNotFoundException();
         }
 
-        if (!target.isSameEvent(editedEvent) && contains(editedEvent)) {
+        int replacedId = internalList.get(index).getId();
+        if ((!target.isSameEvent(editedEvent) && contains(editedEvent))
+                || (editedEvent.getId() != replacedId && idPositions.containsKey(editedEvent.getId()))) {
             throw new DuplicateEventException();
         }
 
-        internalList.set(index, editedEvent);
+        Event edited = editedEvent.getId() == Event.NO_ID ? editedEvent.withId(replacedId) : assignId(editedEvent);
+        Event replaced = internalList.set(index, edited);
+        unindex(replaced);
+        index(edited, index);
+        return index;
     }
 
     /**
      * Removes the equivalent event from the list.
      * The event must exist in the list.
+     *
+     * @return the position in the list that the event was removed from.
      */
-    public void remove(Event toRemove) {
+    public int remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new EventNotFoundException();
         }
+        unindex(internalList.remove(index));
+        // the events after the removed one have moved up by one
+        for (int i = index; i < internalList.size(); i++) {
+            idPositions.put(internalList.get(i).getId(), i);
+        }
+        return index;
     }
 
     public void setEvents(safeforhall.model.event.UniqueEventList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setEvents(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code events}.
-     * {@code events} must not contain duplicate events.
+     * {@code events} must not contain duplicate events. Events without an id are given new ids, which are not those of
+     * any other event in {@code events}.
      */
     public void setEvents(List<Event> events) {
         requireAllNonNull(events);
@@ -94,7 +150,32 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
 
-        internalList.setAll(events);
+        Set<Integer> ids = new HashSet<>();
+        for (Event event : events) {
+            if (event.getId() != Event.NO_ID) {
+                idAllocator.take(event.getId());
+                ids.add(event.getId());
+            }
+        }
+        List<Event> eventsWithIds = new ArrayList<>(events.size());
+        for (Event event : events) {
+            Event withId = event.getId() == Event.NO_ID
+                    ? event.withId(idAllocator.allocate(ids::contains))
+                    : event;
+            ids.add(withId.getId());
+            eventsWithIds.add(withId);
+        }
+        internalList.setAll(eventsWithIds);
+        reindex();
+    }
+
+    /**
+     * Returns the events that the resident with the id of {@code person} is in, in ascending order of date and time.
+     */
+    public List<Event> getResidentEvents(Person person) {
+        requireNonNull(person);
+        NavigableSet<Event> events = residentEvents.get(person.getId());
+        return events == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(events));
     }
 
     /**
@@ -122,16 +203,106 @@ public class UniqueEventList implements Iterable<Event> {
     }
 
     /**
-     * Returns true if {@code events} contains only unique events.
+     * Returns the events taking place from {@code start} to {@code end} inclusive, in ascending order of date and time.
+     */
+    public List<Event> getEventsBetween(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        List<Event> events = new ArrayList<>();
+        if (start.isAfter(end)) {
+            return events;
+        }
+        eventsByDate.subMap(start, true, end, true).values().forEach(events::addAll);
+        return events;
+    }
+
+    /**
+     * Returns the position in the list of the event equal to {@code event}, or -1 if there is none.
+     * The position of the event with the same id is looked up first, so that the list is only scanned for events
+     * that are equal to one in the list without sharing its id.
+     */
+    private int indexOf(Event event) {
+        Integer position = idPositions.get(event.getId());
+        if (position != null && internalList.get(position).equals(event)) {
+            return position;
+        }
+        return internalList.indexOf(event);
+    }
+
+    /**
+     * Returns {@code event} with an id of this list, which is its own id if it has one.
+     */
+    private Event assignId(Event event) {
+        if (event.getId() != Event.NO_ID) {
+            idAllocator.take(event.getId());
+            return event;
+        }
+        return event.withId(idAllocator.allocate(idPositions::containsKey));
+    }
+
+    private void index(Event event, int position) {
+        idPositions.put(event.getId(), position);
+        identities.add(toIdentity(event));
+        eventsByDate.computeIfAbsent(event.getEventDate().toLocalDate(), unused -> new TreeSet<>(DATE_ORDER))
+                .add(event);
+        for (int residentId : event.getResidentList().getResidentIds().toArray()) {
+            residentEvents.computeIfAbsent(residentId, unused -> new TreeSet<>(DATE_ORDER)).add(event);
+        }
+    }
+
+    private void unindex(Event event) {
+        idPositions.remove(event.getId());
+        identities.remove(toIdentity(event));
+        LocalDate date = event.getEventDate().toLocalDate();
+        NavigableSet<Event> eventsOnDate = eventsByDate.get(date);
+        if (eventsOnDate != null) {
+            eventsOnDate.remove(event);
+            if (eventsOnDate.isEmpty()) {
+                eventsByDate.remove(date);
+            }
+        }
+        for (int residentId : event.getResidentList().getResidentIds().toArray()) {
+            NavigableSet<Event> events = residentEvents.get(residentId);
+            if (events == null) {
+                continue;
+            }
+            events.remove(event);
+            if (events.isEmpty()) {
+                residentEvents.remove(residentId);
+            }
+        }
+    }
+
+    private void reindex() {
+        idPositions.clear();
+        identities.clear();
+        residentEvents.clear();
+        eventsByDate.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            index(internalList.get(i), i);
+        }
+    }
+
+    /**
+     * Returns true if {@code events} contains only unique events, that is, no two of them are the same event or share
+     * an id, where events without one share none.
      */
     private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
+        Set<Integer> ids = new HashSet<>();
+        Set<List<Object>> seen = new HashSet<>();
+        for (Event event : events) {
+            if ((event.getId() != Event.NO_ID && !ids.add(event.getId())) || !seen.add(toIdentity(event))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns the fields compared by {@code Event#isSameEvent(Event)}, so that two events have equal identities
+     * exactly when they are the same event.
+     */
+    private static List<Object> toIdentity(Event event) {
+        return Arrays.asList(event.getEventName(), event.getEventDate(), event.getEventTime(), event.getVenue(),
+                event.getCapacity());
+    }
 }
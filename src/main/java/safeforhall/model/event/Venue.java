@@ -3,7 +3,17 @@ package safeforhall.model.event;
 import static java.util.Objects.requireNonNull;
 import static safeforhall.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
 
+import safeforhall.commons.util.Interner;
+
+/**
+ * Represents an Event's venue in the address book.
+ * Guarantees: immutable; is valid as declared in {@link #isValidVenue(String)}
+ * <p>
+ * Events are held at a handful of venues, so {@link #of(String)} shares one instance per venue in use. Venues are
+ * compared ignoring case, so a venue written in another case shares the instance first made for it.
+ */
 public class Venue implements Comparable<Venue> {
     public static final String MESSAGE_CONSTRAINTS =
             "Venues should only contain alphanumeric characters and spaces, and it should not be blank";
@@ -17,6 +27,9 @@ public class Venue implements Comparable<Venue> {
     public static final String DESC = "Venue: ";
     public static final String FIELD = "v";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Interner<String, Venue> INSTANCES = new Interner<>();
+
     public final String venue;
 
     /**
@@ -30,11 +43,21 @@ public class Venue implements Comparable<Venue> {
         this.venue = venue;
     }
 
+    /**
+     * Returns the shared {@code Venue} of {@code venue}.
+     *
+     * @param venue A valid venue.
+     */
+    public static Venue of(String venue) {
+        requireNonNull(venue);
+        return INSTANCES.intern(venue.toLowerCase(), () -> new Venue(venue));
+    }
+
     /**
      * Returns true if a given string is a valid venue.
      */
     public static boolean isValidVenue(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
@@ -52,7 +75,7 @@ public class Venue implements Comparable<Venue> {
 
     @Override
     public int hashCode() {
-        return venue.hashCode();
+        return venue.toLowerCase().hashCode();
     }
 
     @Override
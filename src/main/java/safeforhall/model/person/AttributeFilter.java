@@ -0,0 +1,93 @@
+package safeforhall.model.person;
+
+import static safeforhall.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents the vaccination status, faculty, block and level that persons are filtered by, where each of them is
+ * optional. A person matches if they match every part that is set.
+ * Guarantees: immutable; the room is valid as declared in {@link Room#isValidRoomForFind(String)} and is not a range
+ */
+public class AttributeFilter {
+
+    private final VaccStatus vaccStatus;
+    private final Faculty faculty;
+    private final Character block;
+    private final Integer level;
+
+    /**
+     * Constructs an {@code AttributeFilter}. Any of the arguments may be null if it is not filtered by.
+     *
+     * @param room A block, level, block-level or room, of which only the block and level are filtered by.
+     */
+    public AttributeFilter(VaccStatus vaccStatus, Faculty faculty, String room) {
+        this.vaccStatus = vaccStatus;
+        this.faculty = faculty;
+        if (room == null) {
+            this.block = null;
+            this.level = null;
+            return;
+        }
+        checkArgument(Room.isValidRoomForFind(room) && !Room.isValidRoomRange(room),
+                Room.MESSAGE_CONSTRAINTS_FOR_FIND);
+        char first = Character.toUpperCase(room.charAt(0));
+        if (Character.isDigit(first)) {
+            this.block = null;
+            this.level = first - '0';
+        } else {
+            this.block = first;
+            this.level = room.length() > 1 ? room.charAt(1) - '0' : null;
+        }
+    }
+
+    public Optional<VaccStatus> getVaccStatus() {
+        return Optional.ofNullable(vaccStatus);
+    }
+
+    public Optional<Faculty> getFaculty() {
+        return Optional.ofNullable(faculty);
+    }
+
+    public Optional<Character> getBlock() {
+        return Optional.ofNullable(block);
+    }
+
+    public Optional<Integer> getLevel() {
+        return Optional.ofNullable(level);
+    }
+
+    /**
+     * Returns true if {@code person} matches every part of this filter that is set.
+     */
+    public boolean matches(Person person) {
+        Room room = person.getRoom();
+        return (vaccStatus == null || vaccStatus.equals(person.getVaccStatus()))
+                && (faculty == null || faculty.equals(person.getFaculty()))
+                && (block == null || block == room.getBlock())
+                && (level == null || level == room.getLevel());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AttributeFilter)) {
+            return false;
+        }
+
+        AttributeFilter otherFilter = (AttributeFilter) other;
+        return Objects.equals(vaccStatus, otherFilter.vaccStatus)
+                && Objects.equals(faculty, otherFilter.faculty)
+                && Objects.equals(block, otherFilter.block)
+                && Objects.equals(level, otherFilter.level);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(vaccStatus, faculty, block, level);
+    }
+}
@@ -0,0 +1,76 @@
+package safeforhall.model.person;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An index of the ordinals in {@code ResidentColumns} by faculty code, block and level, which have few distinct
+ * values each.
+ * <p>
+ * Every value of an attribute has a bitmap of the ordinals of the persons with that value. A filter on several
+ * attributes is then the AND of one bitmap per attribute, and its count is the number of bits set, without looking at
+ * any person or column.
+ */
+class AttributeIndex {
+
+    static final int ANY = -1;
+
+    private final Map<Integer, BitSet> facultyBitmaps = new HashMap<>();
+    private final Map<Integer, BitSet> blockBitmaps = new HashMap<>();
+    private final Map<Integer, BitSet> levelBitmaps = new HashMap<>();
+
+    void add(int ordinal, int faculty, int roomKey) {
+        bitmapOf(facultyBitmaps, faculty).set(ordinal);
+        bitmapOf(blockBitmaps, (int) Room.blockOf(roomKey)).set(ordinal);
+        bitmapOf(levelBitmaps, Room.levelOf(roomKey)).set(ordinal);
+    }
+
+    void remove(int ordinal, int faculty, int roomKey) {
+        unset(facultyBitmaps, faculty, ordinal);
+        unset(blockBitmaps, (int) Room.blockOf(roomKey), ordinal);
+        unset(levelBitmaps, Room.levelOf(roomKey), ordinal);
+    }
+
+    void clear() {
+        facultyBitmaps.clear();
+        blockBitmaps.clear();
+        levelBitmaps.clear();
+    }
+
+    /**
+     * Keeps in {@code matches} only the ordinals with the given faculty code, block and level, where any of them may
+     * be {@code ANY} if it is not filtered by.
+     */
+    void select(BitSet matches, int faculty, int block, int level) {
+        and(matches, facultyBitmaps, faculty);
+        and(matches, blockBitmaps, block);
+        and(matches, levelBitmaps, level);
+    }
+
+    private static BitSet bitmapOf(Map<Integer, BitSet> bitmaps, int value) {
+        return bitmaps.computeIfAbsent(value, unused -> new BitSet());
+    }
+
+    private static void unset(Map<Integer, BitSet> bitmaps, int value, int ordinal) {
+        BitSet bitmap = bitmaps.get(value);
+        if (bitmap != null) {
+            bitmap.clear(ordinal);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(value);
+            }
+        }
+    }
+
+    private static void and(BitSet matches, Map<Integer, BitSet> bitmaps, int value) {
+        if (value == ANY) {
+            return;
+        }
+        BitSet bitmap = bitmaps.get(value);
+        if (bitmap == null) {
+            matches.clear();
+        } else {
+            matches.and(bitmap);
+        }
+    }
+}
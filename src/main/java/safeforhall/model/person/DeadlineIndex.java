@@ -0,0 +1,107 @@
+package safeforhall.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * An index of persons ordered by the deadline of one of their {@code LastDate}s, for looking up the persons whose
+ * deadline falls in a range of dates without checking every person.
+ * <p>
+ * Persons without a date are due today, whichever day that is, so they are kept apart and only added to a result
+ * when today is in the range looked up. The persons with the same deadline are kept by their id, in the order they
+ * were added.
+ *
+ * @see LastDate#getDeadline()
+ */
+class DeadlineIndex {
+
+    private final Function<Person, LastDate> lastDateOf;
+    private final NavigableMap<Long, Map<Integer, Person>> personsByDeadline = new TreeMap<>();
+    private final Map<Integer, Person> personsWithoutDate = new LinkedHashMap<>();
+
+    /**
+     * Creates an index on the deadline of the {@code LastDate} returned by {@code lastDateOf}.
+     */
+    DeadlineIndex(Function<Person, LastDate> lastDateOf) {
+        this.lastDateOf = requireNonNull(lastDateOf);
+    }
+
+    void add(Person person) {
+        LastDate lastDate = lastDateOf.apply(person);
+        if (lastDate.date.equals(LastDate.DEFAULT_DATE)) {
+            personsWithoutDate.put(person.getId(), person);
+        } else {
+            personsByDeadline.computeIfAbsent(toKey(lastDate.getDeadline()), unused -> new LinkedHashMap<>())
+                    .put(person.getId(), person);
+        }
+    }
+
+    void remove(Person person) {
+        LastDate lastDate = lastDateOf.apply(person);
+        if (lastDate.date.equals(LastDate.DEFAULT_DATE)) {
+            personsWithoutDate.remove(person.getId());
+            return;
+        }
+        long key = toKey(lastDate.getDeadline());
+        Map<Integer, Person> persons = personsByDeadline.get(key);
+        if (persons != null) {
+            persons.remove(person.getId());
+            if (persons.isEmpty()) {
+                personsByDeadline.remove(key);
+            }
+        }
+    }
+
+    void clear() {
+        personsByDeadline.clear();
+        personsWithoutDate.clear();
+    }
+
+    /**
+     * Returns the persons whose deadline is from {@code start} to {@code end} inclusive.
+     */
+    List<Person> findDueBetween(LocalDate start, LocalDate end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        List<Person> due = new ArrayList<>();
+        if (start.isAfter(end)) {
+            return due;
+        }
+        addAll(due, personsByDeadline.subMap(toKey(start), true, toKey(end), true).values());
+        LocalDate today = LocalDate.now();
+        if (!today.isBefore(start) && !today.isAfter(end)) {
+            due.addAll(personsWithoutDate.values());
+        }
+        return due;
+    }
+
+    /**
+     * Returns the persons whose deadline is before {@code date}.
+     */
+    List<Person> findDueBefore(LocalDate date) {
+        requireNonNull(date);
+        List<Person> due = new ArrayList<>();
+        addAll(due, personsByDeadline.headMap(toKey(date), false).values());
+        if (LocalDate.now().isBefore(date)) {
+            due.addAll(personsWithoutDate.values());
+        }
+        return due;
+    }
+
+    private static long toKey(LocalDate date) {
+        return date.toEpochDay();
+    }
+
+    private static void addAll(List<Person> due, Collection<Map<Integer, Person>> persons) {
+        persons.forEach(personsById -> due.addAll(personsById.values()));
+    }
+}
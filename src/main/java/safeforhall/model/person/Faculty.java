@@ -3,9 +3,15 @@ package safeforhall.model.person;
 import static java.util.Objects.requireNonNull;
 import static safeforhall.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import safeforhall.commons.util.Interner;
+
 /**
  * Represents a Person's faculty in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidFaculty(String)} (String)}
+ * <p>
+ * Faculties are few, so {@link #of(String)} shares one instance per faculty in use among all persons.
  */
 public class Faculty implements Comparable<Faculty> {
 
@@ -20,6 +26,9 @@ public class Faculty implements Comparable<Faculty> {
     public static final String DESC = "Faculty: ";
     public static final String FIELD = "f";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Interner<String, Faculty> INSTANCES = new Interner<>();
+
 
     public final String faculty;
 
@@ -34,11 +43,21 @@ public class Faculty implements Comparable<Faculty> {
         this.faculty = faculty.toUpperCase();
     }
 
+    /**
+     * Returns the shared {@code Faculty} of {@code faculty}.
+     *
+     * @param faculty A valid faculty.
+     */
+    public static Faculty of(String faculty) {
+        requireNonNull(faculty);
+        return INSTANCES.intern(faculty.toUpperCase(), () -> new Faculty(faculty));
+    }
+
     /**
      * Returns true if a given string is a valid faculty.
      */
     public static boolean isValidFaculty(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
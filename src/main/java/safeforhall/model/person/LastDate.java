@@ -8,7 +8,17 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
 import java.time.temporal.ChronoUnit;
+import java.util.regex.Pattern;
 
+import safeforhall.commons.util.Interner;
+
+/**
+ * Represents the date a Person last took a FET or collected a FET kit.
+ * Guarantees: immutable; is valid as declared in {@link #isValidDate(String)}
+ * <p>
+ * The dates of persons cluster around a few recent days, so {@link #of(String)} shares one instance per date in use.
+ * Dates written with different separators share the same instance.
+ */
 public class LastDate implements Comparable<LastDate> {
 
     public static final String MESSAGE_CONSTRAINTS = "Date inputted has to be a valid date in the format of:\n1. "
@@ -27,11 +37,18 @@ public class LastDate implements Comparable<LastDate> {
     private static final DateTimeFormatter dateFormatter = DateTimeFormatter
             .ofPattern("[dd-MM-uuuu][dd.MM.uuuu][dd/MM/uuuu]")
             .withResolverStyle(ResolverStyle.STRICT);
+    private static final Pattern DATE_SEPARATOR = Pattern.compile("[-./]");
+    // Keyed by the dates as stored, so that only one entry is kept however a date is written
+    private static final Interner<String, LastDate> INSTANCES = new Interner<>();
 
     private static final int LASTDATE_DEADLINE = 1;
+    private static final long NO_EPOCH_DAY = Long.MIN_VALUE;
 
     public final String date;
 
+    // The date as a day count from the epoch, or NO_EPOCH_DAY for the default date
+    private final long epochDay;
+
     /**
      * Constructs a {@code LastDate}.
      *
@@ -39,30 +56,46 @@ public class LastDate implements Comparable<LastDate> {
      */
     public LastDate(String date) {
         requireNonNull(date);
-        checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
         if (date.equals(DEFAULT_DATE)) {
             this.date = date;
+            this.epochDay = NO_EPOCH_DAY;
         } else {
-            String[] dayMonthYear = date.split("[-./]");
+            LocalDate localDate = parse(date);
+            checkArgument(localDate != null, MESSAGE_CONSTRAINTS);
+            String[] dayMonthYear = DATE_SEPARATOR.split(date);
             assert dayMonthYear.length == 3;
             this.date = dayMonthYear[0] + "-" + dayMonthYear[1] + "-" + dayMonthYear[2];
+            this.epochDay = localDate.toEpochDay();
         }
+    }
 
+    /**
+     * Returns the shared {@code LastDate} of {@code date}.
+     *
+     * @param date A valid date.
+     */
+    public static LastDate of(String date) {
+        requireNonNull(date);
+        LastDate created = new LastDate(date);
+        return INSTANCES.intern(created.date, () -> created);
     }
 
     /**
-     * Returns true if a given string is a valid date.
+     * Returns the date in {@code date}, or null if it is not a valid date.
      */
-    public static boolean isValidDate(String date) {
-        if (date.equals(DEFAULT_DATE)) {
-            return true;
-        }
+    private static LocalDate parse(String date) {
         try {
-            LocalDate.parse(date, dateFormatter);
+            return LocalDate.parse(date, dateFormatter);
         } catch (DateTimeParseException e) {
-            return false;
+            return null;
         }
-        return true;
+    }
+
+    /**
+     * Returns true if a given string is a valid date.
+     */
+    public static boolean isValidDate(String date) {
+        return date.equals(DEFAULT_DATE) || parse(date) != null;
     }
 
     /**
@@ -80,18 +113,23 @@ public class LastDate implements Comparable<LastDate> {
      * Converts the given {@code LastDate} to a {@code LocalDate}.
      */
     public LocalDate toLocalDate() {
-        return date.equals(DEFAULT_DATE)
-                ? LocalDate.now()
-                : LocalDate.parse(date, dateFormatter);
+        return LocalDate.ofEpochDay(toEpochDay());
+    }
+
+    /**
+     * Returns the date as a day count from the epoch, where the default date is today.
+     */
+    public long toEpochDay() {
+        return epochDay == NO_EPOCH_DAY ? LocalDate.now().toEpochDay() : epochDay;
     }
 
     /**
      * Adds the period of validity to the given {@code LastDate} to get the next deadline.
      */
     public LocalDate getDeadline() {
-        return date.equals(DEFAULT_DATE)
+        return epochDay == NO_EPOCH_DAY
                 ? LocalDate.now()
-                : LocalDate.parse(date, dateFormatter).plusWeeks(LASTDATE_DEADLINE);
+                : LocalDate.ofEpochDay(epochDay).plusWeeks(LASTDATE_DEADLINE);
     }
 
     @Override
@@ -108,6 +146,7 @@ public class LastDate implements Comparable<LastDate> {
 
     @Override
     public int compareTo(LastDate ld) {
-        return this.toLocalDate().compareTo(ld.toLocalDate());
+        // dates are within four digit years, so the number of days between them fits in an int
+        return (int) (this.toEpochDay() - ld.toEpochDay());
     }
 }
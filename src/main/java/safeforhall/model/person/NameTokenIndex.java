@@ -0,0 +1,166 @@
+package safeforhall.model.person;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * An index of persons by the words in their names, kept as a trie of lower case words.
+ * <p>
+ * Besides whole words, the trie answers prefix searches by walking down to the prefix, and searches for misspelt
+ * words by walking it with one row of the edit distance table per letter, leaving a branch as soon as every entry in
+ * the row is over the allowed distance.
+ */
+class NameTokenIndex {
+
+    private static final int EXACT_RANK = 0;
+    private static final int PREFIX_RANK = 1;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Node root = new Node();
+
+    void add(Person person) {
+        for (String word : toWords(person.getName())) {
+            Node node = root;
+            for (char letter : word.toCharArray()) {
+                node = node.children.computeIfAbsent(letter, unused -> new Node());
+            }
+            node.persons.put(person.getId(), person);
+        }
+    }
+
+    void remove(Person person) {
+        for (String word : toWords(person.getName())) {
+            Deque<Node> path = new ArrayDeque<>();
+            Node node = root;
+            for (int i = 0; i < word.length() && node != null; i++) {
+                path.push(node);
+                node = node.children.get(word.charAt(i));
+            }
+            if (node == null) {
+                continue;
+            }
+            node.persons.remove(person.getId());
+            // prune the branches left without any person
+            for (int i = word.length() - 1; i >= 0 && node.isEmpty(); i--) {
+                node = path.pop();
+                node.children.remove(word.charAt(i));
+            }
+        }
+    }
+
+    void clear() {
+        root.children.clear();
+    }
+
+    /**
+     * Returns the persons with any of {@code words} as a whole word of their name, ignoring case.
+     */
+    List<Person> findByWords(List<String> words) {
+        Map<Person, Integer> ranks = new LinkedHashMap<>();
+        for (String word : words) {
+            Node node = find(word.toLowerCase());
+            if (node != null) {
+                node.persons.values().forEach(person -> ranks.putIfAbsent(person, EXACT_RANK));
+            }
+        }
+        return new ArrayList<>(ranks.keySet());
+    }
+
+    /**
+     * Returns the persons with a word in their name that is {@code word}, starts with {@code word}, or is at most
+     * {@code maxDistance} edits away from {@code word}, ignoring case. Persons are ranked in that order, with closer
+     * misspellings first, and then by name.
+     */
+    List<Person> search(String word, int maxDistance) {
+        String query = word.toLowerCase();
+        Map<Person, Integer> ranks = new LinkedHashMap<>();
+
+        Node prefixNode = find(query);
+        if (prefixNode != null) {
+            prefixNode.persons.values().forEach(person -> rank(ranks, person, EXACT_RANK));
+            collect(prefixNode, ranks, PREFIX_RANK);
+        }
+
+        int[] firstRow = new int[query.length() + 1];
+        for (int i = 0; i < firstRow.length; i++) {
+            firstRow[i] = i;
+        }
+        root.children.forEach((letter, child) -> searchSimilar(child, letter, query, firstRow, maxDistance, ranks));
+
+        return ranks.entrySet().stream()
+                .sorted(Map.Entry.<Person, Integer>comparingByValue()
+                        .thenComparing(entry -> entry.getKey().getName().fullName, String.CASE_INSENSITIVE_ORDER))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private Node find(String word) {
+        Node node = root;
+        for (int i = 0; i < word.length() && node != null; i++) {
+            node = node.children.get(word.charAt(i));
+        }
+        return node;
+    }
+
+    private static void collect(Node node, Map<Person, Integer> ranks, int rank) {
+        node.children.values().forEach(child -> {
+            child.persons.values().forEach(person -> rank(ranks, person, rank));
+            collect(child, ranks, rank);
+        });
+    }
+
+    /**
+     * Fills in the row of the edit distance table for {@code letter} from {@code previousRow}, and carries on into
+     * the children of {@code node} while some entry is still within {@code maxDistance}.
+     */
+    private static void searchSimilar(Node node, char letter, String query, int[] previousRow, int maxDistance,
+                                      Map<Person, Integer> ranks) {
+        int[] row = new int[previousRow.length];
+        row[0] = previousRow[0] + 1;
+        int rowMinimum = row[0];
+        for (int i = 1; i < row.length; i++) {
+            int substitutionCost = query.charAt(i - 1) == letter ? 0 : 1;
+            row[i] = Math.min(Math.min(row[i - 1] + 1, previousRow[i] + 1), previousRow[i - 1] + substitutionCost);
+            rowMinimum = Math.min(rowMinimum, row[i]);
+        }
+
+        int distance = row[row.length - 1];
+        if (distance > 0 && distance <= maxDistance) {
+            node.persons.values().forEach(person -> rank(ranks, person, PREFIX_RANK + distance));
+        }
+        if (rowMinimum <= maxDistance) {
+            node.children.forEach((childLetter, child) ->
+                    searchSimilar(child, childLetter, query, row, maxDistance, ranks));
+        }
+    }
+
+    private static void rank(Map<Person, Integer> ranks, Person person, int rank) {
+        ranks.merge(person, rank, Math::min);
+    }
+
+    private static List<String> toWords(Name name) {
+        List<String> words = new ArrayList<>();
+        for (String word : WHITESPACE.split(name.fullName)) {
+            if (!word.isEmpty()) {
+                words.add(word.toLowerCase());
+            }
+        }
+        return words;
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new TreeMap<>();
+        private final Map<Integer, Person> persons = new LinkedHashMap<>();
+
+        private boolean isEmpty() {
+            return children.isEmpty() && persons.isEmpty();
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package safeforhall.model.person;
 
+import static safeforhall.commons.util.AppUtil.checkArgument;
 import static safeforhall.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 
 /**
@@ -12,7 +13,12 @@ import java.util.Objects;
  */
 public class Person {
 
+    public static final int NO_ID = 0;
+    public static final int MAX_ID = 1_000_000_000;
+    public static final String MESSAGE_ID_CONSTRAINTS = "Person ids should be positive integers of at most " + MAX_ID;
+
     // Identity fields
+    private final int id;
     private final Name name;
     private final Room room;
     private final Phone phone;
@@ -25,11 +31,23 @@ public class Person {
     private final LastDate lastCollectionDate;
 
     /**
-     * Every field must be present.
+     * Every field must be present. The person has no id until it is added to an address book.
      */
     public Person(Name name, Room room, Phone phone, Email email, VaccStatus vaccStatus,
                     Faculty faculty, LastDate lastFetDate, LastDate lastCollectionDate) {
+        this(NO_ID, name, room, phone, email, vaccStatus, faculty, lastFetDate, lastCollectionDate);
+    }
+
+    /**
+     * Every field must be present and {@code id} must be {@code NO_ID} or valid as declared in
+     * {@link #isValidId(int)}.
+     * Used to keep the id of a person that is edited or read from storage.
+     */
+    public Person(int id, Name name, Room room, Phone phone, Email email, VaccStatus vaccStatus,
+                    Faculty faculty, LastDate lastFetDate, LastDate lastCollectionDate) {
         requireAllNonNull(name, room, phone, email, vaccStatus, faculty, lastFetDate, lastCollectionDate);
+        checkArgument(id == NO_ID || isValidId(id), MESSAGE_ID_CONSTRAINTS);
+        this.id = id;
         this.name = name;
         this.room = room;
         this.phone = phone;
@@ -40,6 +58,35 @@ public class Person {
         this.lastCollectionDate = lastCollectionDate;
     }
 
+    /**
+     * Returns true if a given integer is a valid person id.
+     */
+    public static boolean isValidId(int id) {
+        return id > 0 && id <= MAX_ID;
+    }
+
+    /**
+     * Returns the id of this person, which is given by the address book it is added to, kept when the person is
+     * edited and unique within that address book. A person that has yet to be added has {@code NO_ID}.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns this person without an id, so that it is given a new one when added to an address book.
+     */
+    public Person withoutId() {
+        return withId(NO_ID);
+    }
+
+    /**
+     * Returns this person with the given {@code id}.
+     */
+    Person withId(int id) {
+        return new Person(id, name, room, phone, email, vaccStatus, faculty, lastFetDate, lastCollectionDate);
+    }
+
     public Name getName() {
         return name;
     }
@@ -175,22 +222,22 @@ public class Person {
      * Returns true the person has missed any of his fet dates.
      */
     public boolean hasMissedDeadline() {
-        LastDate currentDate = new LastDate(LocalDate.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy")));
-        NameMissedDeadlinePredicate checkFet = new NameMissedDeadlinePredicate("f", currentDate);
-        return checkFet.test(this);
+        return getFetDeadlinePeriod(LocalDate.now()) > 0;
     }
 
     /**
      * Returns the number of days the person has missed any of his fet dates.
      */
     public int getMissedDates() {
-        LastDate currentDate = new LastDate(LocalDate.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy")));
-        NameMissedDeadlinePredicate checkFet = new NameMissedDeadlinePredicate("f", currentDate);
+        long deadlinePeriod = getFetDeadlinePeriod(LocalDate.now());
+        return deadlinePeriod > 0 ? (int) deadlinePeriod : -1;
+    }
 
-        if (this.hasMissedDeadline()) {
-            return (int) Math.abs(checkFet.getDeadlinePeriod(this));
-        } else {
-            return -1;
-        }
+    /**
+     * Returns the number of days from the person's fet deadline to {@code date}, which is not positive if the
+     * deadline has not passed by {@code date}.
+     */
+    public long getFetDeadlinePeriod(LocalDate date) {
+        return ChronoUnit.DAYS.between(lastFetDate.getDeadline(), date);
     }
 }
@@ -0,0 +1,122 @@
+package safeforhall.model.person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The vaccination status, faculty and room of every person, stored column by column for filtering persons by them.
+ * <p>
+ * Every person is given a small ordinal, looked up by their id and reusing those of removed persons, and each column
+ * holds one primitive per ordinal: a bit for the vaccination status, a dictionary code for the faculty and the key of
+ * the room. The vaccination column is itself a bitmap, and the faculty codes and rooms are indexed by an
+ * {@code AttributeIndex} of bitmaps, so a filter is the AND of one bitmap per attribute and only the persons that
+ * match are read back. Counting the persons that match is the number of bits set, without any loop.
+ */
+class ResidentColumns {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NO_CODE = -2;
+
+    private final List<Person> personsByOrdinal = new ArrayList<>();
+    private final Map<Integer, Integer> ordinals = new HashMap<>();
+    private final BitSet usedOrdinals = new BitSet();
+    private final BitSet vaccinated = new BitSet();
+    // Codes are not reused while persons are removed, as a hall only has a few faculties
+    private final Map<Faculty, Integer> facultyCodes = new HashMap<>();
+    private int[] faculties = new int[INITIAL_CAPACITY];
+    private int[] roomKeys = new int[INITIAL_CAPACITY];
+    private final AttributeIndex attributeIndex = new AttributeIndex();
+
+    void add(Person person) {
+        int ordinal = usedOrdinals.nextClearBit(0);
+        if (ordinal == personsByOrdinal.size()) {
+            personsByOrdinal.add(person);
+        } else {
+            personsByOrdinal.set(ordinal, person);
+        }
+        ordinals.put(person.getId(), ordinal);
+        usedOrdinals.set(ordinal);
+
+        ensureCapacity(ordinal + 1);
+        vaccinated.set(ordinal, person.getVaccStatus().vaccinated);
+        faculties[ordinal] = facultyCodes.computeIfAbsent(person.getFaculty(), unused -> facultyCodes.size());
+        roomKeys[ordinal] = person.getRoom().toKey();
+        attributeIndex.add(ordinal, faculties[ordinal], roomKeys[ordinal]);
+    }
+
+    /**
+     * Removes {@code person}, leaving its values in the columns to be overwritten by the next person added.
+     */
+    void remove(Person person) {
+        Integer ordinal = ordinals.remove(person.getId());
+        if (ordinal == null) {
+            return;
+        }
+        personsByOrdinal.set(ordinal, null);
+        usedOrdinals.clear(ordinal);
+        vaccinated.clear(ordinal);
+        attributeIndex.remove(ordinal, faculties[ordinal], roomKeys[ordinal]);
+    }
+
+    void clear() {
+        personsByOrdinal.clear();
+        ordinals.clear();
+        usedOrdinals.clear();
+        vaccinated.clear();
+        facultyCodes.clear();
+        faculties = new int[INITIAL_CAPACITY];
+        roomKeys = new int[INITIAL_CAPACITY];
+        attributeIndex.clear();
+    }
+
+    /**
+     * Returns the persons matching {@code filter}, in no particular order.
+     */
+    List<Person> find(AttributeFilter filter) {
+        BitSet matches = select(filter);
+        List<Person> persons = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            persons.add(personsByOrdinal.get(i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the number of persons matching {@code filter}.
+     */
+    int count(AttributeFilter filter) {
+        return select(filter).cardinality();
+    }
+
+    private BitSet select(AttributeFilter filter) {
+        BitSet matches = (BitSet) usedOrdinals.clone();
+        filter.getVaccStatus().ifPresent(vaccStatus -> {
+            if (vaccStatus.vaccinated) {
+                matches.and(vaccinated);
+            } else {
+                matches.andNot(vaccinated);
+            }
+        });
+
+        // a faculty without a code has no persons, and so no bitmap, leaving no matches
+        int faculty = filter.getFaculty()
+                .map(value -> facultyCodes.getOrDefault(value, NO_CODE))
+                .orElse(AttributeIndex.ANY);
+        int block = filter.getBlock().map(value -> (int) value).orElse(AttributeIndex.ANY);
+        int level = filter.getLevel().orElse(AttributeIndex.ANY);
+        attributeIndex.select(matches, faculty, block, level);
+        return matches;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > roomKeys.length) {
+            int newLength = Math.max(capacity, roomKeys.length * 2);
+            faculties = Arrays.copyOf(faculties, newLength);
+            roomKeys = Arrays.copyOf(roomKeys, newLength);
+        }
+    }
+}
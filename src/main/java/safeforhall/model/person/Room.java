@@ -17,11 +17,13 @@ public class Room implements Comparable<Room> {
             + "Character 3: The room, 0-2\n"
             + "Character 4: The room, 0-9\n";
 
-    public static final String MESSAGE_CONSTRAINTS_FOR_FIND = "Rooms can be searched by block, level, block-level: \n"
+    public static final String MESSAGE_CONSTRAINTS_FOR_FIND = "Rooms can be searched by block, level, block-level, "
+            + "room or range of rooms: \n"
             + "Example: " + CliSyntax.PREFIX_ROOM + "A , "
             + CliSyntax.PREFIX_ROOM + "1 , "
             + CliSyntax.PREFIX_ROOM + "A1 , "
-            + CliSyntax.PREFIX_ROOM + "A100 ";
+            + CliSyntax.PREFIX_ROOM + "A100 , "
+            + CliSyntax.PREFIX_ROOM + "A100-A129 ";
 
     /*
      * The room must be 4 characters
@@ -30,17 +32,31 @@ public class Room implements Comparable<Room> {
      * The third character of the room must be 0-2
      * The fourth character of the room must be 0-9
      * This check assumes 5 blocks, 4 levels and 30 rooms a level
+     * Rooms are checked character by character, and the regex below documents the format
      */
     public static final String VALIDATION_REGEX = "^[a-eA-E][1-4][0-2][0-9]$";
 
     public static final String VALIDATION_FOR_FIND_REGEX = "[a-eA-E]|[1-4]|[a-eA-E][1-4]";
 
+    public static final String RANGE_SEPARATOR = "-";
+
+    public static final int FIRST_LEVEL = 1;
+    public static final int LAST_LEVEL = 4;
+    public static final int FIRST_NUMBER = 0;
+    public static final int LAST_NUMBER = 29;
+
     public static final String DESC = "Room: ";
     public static final String FIELD = "r";
 
 
+    private static final int BLOCK_FACTOR = 1000;
+    private static final int LEVEL_FACTOR = 100;
+
     public final String room;
 
+    /** The block, level and number packed into one int, which is ordered the same way as the rooms are. */
+    private final int key;
+
     /**
      * Constructs a {@code Room}.
      *
@@ -51,20 +67,95 @@ public class Room implements Comparable<Room> {
         checkArgument(isValidRoom(room), MESSAGE_CONSTRAINTS);
         // Converts the first character to upper case
         this.room = room.toUpperCase();
+        this.key = toKey(this.room.charAt(0), this.room.charAt(1) - '0',
+                Integer.parseInt(this.room.substring(2)));
     }
 
     /**
      * Returns true if a given string is a valid room.
      */
     public static boolean isValidRoom(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return test.length() == 4
+                && isBlock(test.charAt(0))
+                && isLevel(test.charAt(1))
+                && test.charAt(2) >= '0' && test.charAt(2) <= '2'
+                && test.charAt(3) >= '0' && test.charAt(3) <= '9';
     }
 
     /**
-     * Returns true if a given string is a valid block, level, level-block or room.
+     * Returns true if a given string is a valid block, level, level-block, room or range of rooms.
      */
     public static boolean isValidRoomForFind(String test) {
-        return test.matches(VALIDATION_FOR_FIND_REGEX) || isValidRoom(test);
+        switch (test.length()) {
+        case 1:
+            return isBlock(test.charAt(0)) || isLevel(test.charAt(0));
+        case 2:
+            return isBlock(test.charAt(0)) && isLevel(test.charAt(1));
+        default:
+            return isValidRoom(test) || isValidRoomRange(test);
+        }
+    }
+
+    /**
+     * Returns true if a given string is two valid rooms separated by {@link #RANGE_SEPARATOR}, where the first room
+     * is not after the second.
+     */
+    public static boolean isValidRoomRange(String test) {
+        int separator = test.indexOf(RANGE_SEPARATOR);
+        if (separator < 0) {
+            return false;
+        }
+        String first = test.substring(0, separator);
+        String last = test.substring(separator + RANGE_SEPARATOR.length());
+        return isValidRoom(first) && isValidRoom(last) && new Room(first).compareTo(new Room(last)) <= 0;
+    }
+
+    private static boolean isBlock(char c) {
+        return (c >= 'a' && c <= 'e') || (c >= 'A' && c <= 'E');
+    }
+
+    private static boolean isLevel(char c) {
+        return c >= '1' && c <= '4';
+    }
+
+    /**
+     * Returns the key of the room in {@code block}, on {@code level}, with {@code number}.
+     */
+    public static int toKey(char block, int level, int number) {
+        return (Character.toUpperCase(block) - 'A') * BLOCK_FACTOR + level * LEVEL_FACTOR + number;
+    }
+
+    /**
+     * Returns the block, level and number of this room packed into one int. Keys are ordered the same way as rooms.
+     */
+    public int toKey() {
+        return key;
+    }
+
+    /**
+     * Returns the block of the room with {@code key}.
+     */
+    public static char blockOf(int key) {
+        return (char) ('A' + key / BLOCK_FACTOR);
+    }
+
+    /**
+     * Returns the level of the room with {@code key}.
+     */
+    public static int levelOf(int key) {
+        return key % BLOCK_FACTOR / LEVEL_FACTOR;
+    }
+
+    public char getBlock() {
+        return room.charAt(0);
+    }
+
+    public int getLevel() {
+        return levelOf(key);
+    }
+
+    public int getNumber() {
+        return key % LEVEL_FACTOR;
     }
 
     @Override
@@ -76,17 +167,17 @@ public class Room implements Comparable<Room> {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Room // instanceof handles nulls
-                && room.equalsIgnoreCase(((Room) other).room)); // state check
+                && key == ((Room) other).key); // state check
     }
 
     @Override
     public int hashCode() {
-        return room.hashCode();
+        return Integer.hashCode(key);
     }
 
     @Override
     public int compareTo(Room r) {
-        return this.room.compareToIgnoreCase(r.room);
+        return Integer.compare(key, r.key);
     }
 }
 
@@ -0,0 +1,109 @@
+package safeforhall.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static safeforhall.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents the rooms from one room to another inclusive, as a range of room keys.
+ * Guarantees: immutable; the first key is not after the last key
+ *
+ * @see Room#toKey()
+ */
+public class RoomRange {
+
+    private static final char FIRST_BLOCK = 'A';
+    private static final char LAST_BLOCK = 'E';
+
+    private final int firstKey;
+    private final int lastKey;
+
+    /**
+     * Constructs a {@code RoomRange} from {@code first} to {@code last} inclusive.
+     */
+    public RoomRange(Room first, Room last) {
+        this(first.toKey(), last.toKey());
+    }
+
+    private RoomRange(int firstKey, int lastKey) {
+        checkArgument(firstKey <= lastKey, Room.MESSAGE_CONSTRAINTS_FOR_FIND);
+        this.firstKey = firstKey;
+        this.lastKey = lastKey;
+    }
+
+    /**
+     * Returns the ranges of rooms that a room search matches, in ascending order. A block or block-level is one
+     * range, while a level is one range for each block.
+     *
+     * @param search A valid room search as declared in {@link Room#isValidRoomForFind(String)}.
+     */
+    public static List<RoomRange> parse(String search) {
+        requireNonNull(search);
+        checkArgument(Room.isValidRoomForFind(search), Room.MESSAGE_CONSTRAINTS_FOR_FIND);
+
+        if (Room.isValidRoomRange(search)) {
+            String[] rooms = search.split(Room.RANGE_SEPARATOR);
+            return Collections.singletonList(new RoomRange(new Room(rooms[0]), new Room(rooms[1])));
+        } else if (Room.isValidRoom(search)) {
+            Room room = new Room(search);
+            return Collections.singletonList(new RoomRange(room, room));
+        }
+
+        char first = search.charAt(0);
+        if (Character.isDigit(first)) {
+            int level = first - '0';
+            List<RoomRange> ranges = new ArrayList<>();
+            for (char block = FIRST_BLOCK; block <= LAST_BLOCK; block++) {
+                ranges.add(ofLevels(block, level, level));
+            }
+            return ranges;
+        } else if (search.length() > 1) {
+            int level = search.charAt(1) - '0';
+            return Collections.singletonList(ofLevels(first, level, level));
+        } else {
+            return Collections.singletonList(ofLevels(first, Room.FIRST_LEVEL, Room.LAST_LEVEL));
+        }
+    }
+
+    private static RoomRange ofLevels(char block, int firstLevel, int lastLevel) {
+        return new RoomRange(Room.toKey(block, firstLevel, Room.FIRST_NUMBER),
+                Room.toKey(block, lastLevel, Room.LAST_NUMBER));
+    }
+
+    public int getFirstKey() {
+        return firstKey;
+    }
+
+    public int getLastKey() {
+        return lastKey;
+    }
+
+    /**
+     * Returns true if {@code room} is in this range.
+     */
+    public boolean contains(Room room) {
+        int key = room.toKey();
+        return firstKey <= key && key <= lastKey;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RoomRange // instanceof handles nulls
+                && firstKey == ((RoomRange) other).firstKey
+                && lastKey == ((RoomRange) other).lastKey); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * firstKey + lastKey;
+    }
+
+    @Override
+    public String toString() {
+        return firstKey + Room.RANGE_SEPARATOR + lastKey;
+    }
+}
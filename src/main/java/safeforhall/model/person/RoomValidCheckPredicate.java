@@ -2,14 +2,16 @@ package safeforhall.model.person;
 
 import static safeforhall.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 /**
- * Tests that a {@code Person}'s {@code Room} matches either fully, by block, by level, or both.
+ * Tests that a {@code Person}'s {@code Room} matches either fully, by block, by level, by both, or by range.
  */
 public class RoomValidCheckPredicate implements Predicate<Person> {
 
     private final String input;
+    private final List<RoomRange> ranges;
 
     /**
      * Validates the string input for room and returns the RoomValidCheckPredicate instance
@@ -19,25 +21,25 @@ public class RoomValidCheckPredicate implements Predicate<Person> {
     public RoomValidCheckPredicate(String input) {
         checkArgument(Room.isValidRoomForFind(input), Room.MESSAGE_CONSTRAINTS_FOR_FIND);
         this.input = input;
+        this.ranges = RoomRange.parse(input);
+    }
+
+    /**
+     * Returns the ranges of rooms that this predicate matches, in ascending order.
+     */
+    public List<RoomRange> getRanges() {
+        return ranges;
     }
 
     @Override
     public boolean test(Person person) {
-        String room = person.getRoom().room;
-        String block = room.substring(0, 1);
-        String level = room.substring(1, 2);
-        if (input.length() == 1) {
-            try {
-                Integer.parseInt(input);
-                return input.equals(level);
-            } catch (NumberFormatException e) {
-                return input.equals(block);
+        Room room = person.getRoom();
+        for (RoomRange range : ranges) {
+            if (range.contains(room)) {
+                return true;
             }
-        } else if (input.length() == 2) {
-            return input.equalsIgnoreCase(block + level);
-        } else {
-            return input.equalsIgnoreCase(room);
         }
+        return false;
     }
 
     @Override
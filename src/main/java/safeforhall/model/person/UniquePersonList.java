@@ -3,11 +3,21 @@ package safeforhall.model.person;
 import static java.util.Objects.requireNonNull;
 import static safeforhall.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import safeforhall.commons.util.IdAllocator;
 import safeforhall.model.person.exceptions.DuplicatePersonException;
 import safeforhall.model.person.exceptions.PersonNotFoundException;
 
@@ -16,25 +26,44 @@ import safeforhall.model.person.exceptions.PersonNotFoundException;
  * A person is considered unique by comparing using {@code Person#isSamePerson(Person)}. As such, adding and updating of
  * persons uses Person#isSamePerson(Person) for equality so as to ensure that the person being added or updated is
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
- * as to ensure that the person with exactly the same fields will be removed.
+ * as to ensure that the person with exactly the same fields will be removed. No two persons in the list share an id,
+ * and persons are found in the list by their id before falling back to comparing every field. A person added to the
+ * list without an id is given the next id of the list, and an edited person without an id keeps the id of the person
+ * it replaces.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. A hash index on ids, an ordered index on room keys, a hash index on
+ * {@code Name}, a trie of the words in names, ordered indexes on the FET and collection deadlines, and primitive
+ * columns of vaccination status, faculty and room with bitmaps of their values are kept in step with the backing list
+ * so that identity lookups, room and name searches, deadline queries and attribute filters do not need to look at
+ * every person.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    private static final String FET_KEYWORD = "f";
+    private static final int SHORT_WORD_LENGTH = 2;
+    private static final int MEDIUM_WORD_LENGTH = 5;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
-
+    // The position in the list of the person with each id
+    private final Map<Integer, Integer> idPositions = new HashMap<>();
+    private final NavigableMap<Integer, Person> roomIndex = new TreeMap<>();
+    private final Map<String, Person> nameIndex = new HashMap<>();
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+    private final DeadlineIndex fetDeadlineIndex = new DeadlineIndex(Person::getLastFetDate);
+    private final DeadlineIndex collectionDeadlineIndex = new DeadlineIndex(Person::getLastCollectionDate);
+    private final ResidentColumns residentColumns = new ResidentColumns();
+    private final IdAllocator idAllocator = new IdAllocator(Person.MAX_ID);
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return roomIndex.containsKey(toCheck.getRoom().toKey()) || nameIndex.containsKey(toNameKey(toCheck.getName()));
     }
 
     /**
@@ -42,61 +71,193 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containsExact(Person toCheck) {
         requireNonNull(toCheck);
-        return (internalList.stream().anyMatch(toCheck::isSameNamePerson)
-                && internalList.stream().anyMatch(toCheck::isSameRoomPerson));
+        return roomIndex.containsKey(toCheck.getRoom().toKey()) && nameIndex.containsKey(toNameKey(toCheck.getName()));
+    }
+
+    /**
+     * Returns the person in the list with the given {@code id}, if any.
+     */
+    public Optional<Person> findById(int id) {
+        Integer position = idPositions.get(id);
+        return position == null ? Optional.empty() : Optional.of(internalList.get(position));
+    }
+
+    /**
+     * Returns the person in the list with the given {@code room}, if any.
+     */
+    public Optional<Person> findByRoom(Room room) {
+        requireNonNull(room);
+        return Optional.ofNullable(roomIndex.get(room.toKey()));
+    }
+
+    /**
+     * Returns the persons in the list staying in any of {@code ranges}, in ascending order of room if the ranges are.
+     */
+    public List<Person> findInRooms(List<RoomRange> ranges) {
+        requireAllNonNull(ranges);
+        List<Person> persons = new ArrayList<>();
+        for (RoomRange range : ranges) {
+            persons.addAll(roomIndex.subMap(range.getFirstKey(), true, range.getLastKey(), true).values());
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the person in the list with the given {@code name}, if any.
+     */
+    public Optional<Person> findByName(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(nameIndex.get(toNameKey(name)));
+    }
+
+    /**
+     * Returns the persons in the list with any of {@code words} as a whole word of their name, ignoring case.
+     */
+    public List<Person> findByNameWords(List<String> words) {
+        requireAllNonNull(words);
+        return nameTokenIndex.findByWords(words);
+    }
+
+    /**
+     * Returns the persons in the list with a word in their name that is {@code word}, starts with {@code word}, or
+     * is a misspelling of {@code word}, ignoring case. Persons are ranked in that order, and then by name.
+     * Words of up to 2 letters are not matched with misspellings, and words of up to 5 letters with at most one edit.
+     */
+    public List<Person> searchByName(String word) {
+        requireNonNull(word);
+        int maxDistance = word.length() <= SHORT_WORD_LENGTH ? 0 : word.length() <= MEDIUM_WORD_LENGTH ? 1 : 2;
+        return nameTokenIndex.search(word, maxDistance);
+    }
+
+    /**
+     * Returns the persons in the list whose FET deadline, or collection deadline if {@code keyword} is not "f", is
+     * from {@code start} to {@code end} inclusive.
+     */
+    public List<Person> findDueBetween(String keyword, LocalDate start, LocalDate end) {
+        requireAllNonNull(keyword, start, end);
+        return getDeadlineIndex(keyword).findDueBetween(start, end);
+    }
+
+    /**
+     * Returns the persons in the list whose FET deadline, or collection deadline if {@code keyword} is not "f", is
+     * before {@code date}.
+     */
+    public List<Person> findDueBefore(String keyword, LocalDate date) {
+        requireAllNonNull(keyword, date);
+        return getDeadlineIndex(keyword).findDueBefore(date);
+    }
+
+    /**
+     * Returns the persons in the list matching {@code filter}, in no particular order.
+     */
+    public List<Person> findMatching(AttributeFilter filter) {
+        requireNonNull(filter);
+        return residentColumns.find(filter);
+    }
+
+    /**
+     * Returns the number of persons in the list matching {@code filter}.
+     */
+    public int countMatching(AttributeFilter filter) {
+        requireNonNull(filter);
+        return residentColumns.count(filter);
     }
 
     /**
      * Adds a person to the list.
-     * The person must not already exist in the list.
+     * The person, and its id, must not already exist in the list.
+     *
+     * @return the person added, which has been given an id if it had none.
      */
-    public void add(Person toAdd) {
+    public Person add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || idPositions.containsKey(toAdd.getId())) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        Person added = assignId(toAdd);
+        internalList.add(added);
+        index(added, internalList.size() - 1);
+        return added;
+    }
+
+    /**
+     * Returns {@code person} with an id of this list. A person with an id that no person in the list has keeps it,
+     * and that id is not given to any person added later while ids are left below {@code Person#MAX_ID}. Any other
+     * person is given a new id.
+     * Also used for persons kept outside the list, such as the residents of events who are no longer in it, so that
+     * they do not share an id with a person in it.
+     */
+    public Person assignId(Person person) {
+        requireNonNull(person);
+        if (person.getId() != Person.NO_ID && !idPositions.containsKey(person.getId())) {
+            idAllocator.take(person.getId());
+            return person;
+        }
+        return person.withId(idAllocator.allocate(idPositions::containsKey));
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
-     * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * The person identity and id of {@code editedPerson} must not be the same as another existing person in the list.
+     *
+     * @return the position in the list of the replaced person.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public int setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        Person replaced = internalList.get(index);
+        if ((!target.isSamePerson(editedPerson) && contains(editedPerson))
+                || (editedPerson.getId() != replaced.getId() && idPositions.containsKey(editedPerson.getId()))) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person edited = editedPerson;
+        if (editedPerson.getId() == Person.NO_ID) {
+            edited = editedPerson.withId(replaced.getId());
+        } else if (editedPerson.getId() != replaced.getId()) {
+            edited = assignId(editedPerson);
+        }
+        internalList.set(index, edited);
+        unindex(replaced);
+        index(edited, index);
+        return index;
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     *
+     * @return the position in the list that the person was removed from.
      */
-    public void remove(Person toRemove) {
+    public int remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        unindex(internalList.remove(index));
+        // the persons after the removed one have moved up by one
+        for (int i = index; i < internalList.size(); i++) {
+            idPositions.put(internalList.get(i).getId(), i);
+        }
+        return index;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setPersons(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * {@code persons} must not contain duplicate persons. Persons without an id are given new ids, which are not those
+     * of any other person in {@code persons}.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
@@ -104,7 +265,23 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        Set<Integer> ids = new HashSet<>();
+        for (Person person : persons) {
+            if (person.getId() != Person.NO_ID) {
+                idAllocator.take(person.getId());
+                ids.add(person.getId());
+            }
+        }
+        List<Person> personsWithIds = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            Person withId = person.getId() == Person.NO_ID
+                    ? person.withId(idAllocator.allocate(ids::contains))
+                    : person;
+            ids.add(withId.getId());
+            personsWithIds.add(withId);
+        }
+        internalList.setAll(personsWithIds);
+        reindex();
     }
 
     /**
@@ -132,14 +309,87 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position in the list of the person equal to {@code person}, or -1 if there is none.
+     * The position of the person with the same id is looked up first, so that the list is only scanned for persons
+     * that are equal to one in the list without sharing its id.
+     */
+    private int indexOf(Person person) {
+        Integer position = idPositions.get(person.getId());
+        if (position != null && internalList.get(position).equals(person)) {
+            return position;
+        }
+        return internalList.indexOf(person);
+    }
+
+    private void index(Person person, int position) {
+        idPositions.put(person.getId(), position);
+        roomIndex.put(person.getRoom().toKey(), person);
+        nameIndex.put(toNameKey(person.getName()), person);
+        nameTokenIndex.add(person);
+        fetDeadlineIndex.add(person);
+        collectionDeadlineIndex.add(person);
+        residentColumns.add(person);
+    }
+
+    /**
+     * Drops the index entries of {@code person}, leaving entries that have since been taken over by another person.
+     */
+    private void unindex(Person person) {
+        idPositions.remove(person.getId());
+        removeIfSameId(roomIndex, person.getRoom().toKey(), person);
+        removeIfSameId(nameIndex, toNameKey(person.getName()), person);
+        nameTokenIndex.remove(person);
+        fetDeadlineIndex.remove(person);
+        collectionDeadlineIndex.remove(person);
+        residentColumns.remove(person);
+    }
+
+    private void reindex() {
+        idPositions.clear();
+        roomIndex.clear();
+        nameIndex.clear();
+        nameTokenIndex.clear();
+        fetDeadlineIndex.clear();
+        collectionDeadlineIndex.clear();
+        residentColumns.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            index(internalList.get(i), i);
+        }
+    }
+
+    private static <K> void removeIfSameId(Map<K, Person> index, K key, Person person) {
+        Person indexed = index.get(key);
+        if (indexed != null && indexed.getId() == person.getId()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Keywords are the same as those of {@code NameNearLastDatePredicate}, where "f" is for FET deadlines.
+     */
+    private DeadlineIndex getDeadlineIndex(String keyword) {
+        return keyword.equals(FET_KEYWORD) ? fetDeadlineIndex : collectionDeadlineIndex;
+    }
+
+    /**
+     * Names are compared case-insensitively, so they are indexed by their lower case form.
+     */
+    private static String toNameKey(Name name) {
+        return name.fullName.toLowerCase();
+    }
+
+    /**
+     * Returns true if {@code persons} contains only unique persons, that is, no two of them share a name, a room or an
+     * id, where persons without one share none.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Integer> ids = new HashSet<>();
+        Set<Integer> rooms = new HashSet<>();
+        Set<String> names = new HashSet<>();
+        for (Person person : persons) {
+            if ((person.getId() != Person.NO_ID && !ids.add(person.getId())) || !rooms.add(person.getRoom().toKey())
+                    || !names.add(toNameKey(person.getName()))) {
+                return false;
             }
         }
         return true;
@@ -6,19 +6,23 @@ import static safeforhall.commons.util.AppUtil.checkArgument;
 /**
  * Represents a Person's vaccination status in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidVaccStatus(String)}
+ * <p>
+ * There are only two statuses, so {@link #of(String)} shares one instance of each among all persons.
  */
 public class VaccStatus implements Comparable<VaccStatus> {
 
     public static final String MESSAGE_CONSTRAINTS = "Vaccination status can be T or F (case insensitive).";
 
     /*
-     * Vaccination status can T/F (case insensitive)
+     * Vaccination status can T/F (case insensitive), which is checked by hand rather than with the regex below
      */
     public static final String VALIDATION_REGEX = "^([Tt]|[Ff])$";
 
     public static final String DESC = "Vaccinated: ";
     public static final String FIELD = "v";
 
+    private static final VaccStatus VACCINATED = new VaccStatus("T");
+    private static final VaccStatus UNVACCINATED = new VaccStatus("F");
 
     public final String vaccStatus;
     public final boolean vaccinated;
@@ -40,11 +44,22 @@ public class VaccStatus implements Comparable<VaccStatus> {
         }
     }
 
+    /**
+     * Returns the shared {@code VaccStatus} of {@code vaccStatus}.
+     *
+     * @param vaccStatus A valid vaccination status.
+     */
+    public static VaccStatus of(String vaccStatus) {
+        requireNonNull(vaccStatus);
+        checkArgument(isValidVaccStatus(vaccStatus), MESSAGE_CONSTRAINTS);
+        return Character.toUpperCase(vaccStatus.charAt(0)) == 'T' ? VACCINATED : UNVACCINATED;
+    }
+
     /**
      * Returns true if a given string is a valid vaccination status.
      */
     public static boolean isValidVaccStatus(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return test.length() == 1 && "TtFf".indexOf(test.charAt(0)) >= 0;
     }
 
 
@@ -0,0 +1,145 @@
+package safeforhall.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import safeforhall.commons.core.LogsCenter;
+import safeforhall.commons.util.StringUtil;
+import safeforhall.model.AddressBookSnapshot;
+import safeforhall.model.ReadOnlyAddressBook;
+
+/**
+ * Saves AddressBook data on a background thread.
+ * Save requests made within {@code delayMillis} of each other are coalesced, so that only the latest
+ * state is written. Each snapshot taken also holds the changes made since the version last saved, for storages that
+ * only write out what changed.
+ * A snapshot that fails to save is kept until a newer one is requested or it is saved by {@link #flush()}, and the
+ * failure is given to the failure handler of the saver.
+ */
+public class AddressBookSaver {
+
+    /** The version saved when it is not known which version the storage holds. */
+    public static final long UNKNOWN_VERSION = Long.MIN_VALUE;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final long delayMillis;
+    private final ScheduledExecutorService executor;
+    private final Consumer<IOException> failureHandler;
+
+    // The fields below are guarded by this
+    private ReadOnlyAddressBook pending;
+    private ScheduledFuture<?> scheduledSave;
+    private long savedVersion;
+
+    /**
+     * Creates an {@code AddressBookSaver} that writes to {@code addressBookStorage} at most
+     * {@code delayMillis} after a save is requested.
+     */
+    public AddressBookSaver(AddressBookStorage addressBookStorage, long delayMillis) {
+        this(addressBookStorage, delayMillis, UNKNOWN_VERSION, failure -> { });
+    }
+
+    /**
+     * Creates an {@code AddressBookSaver} that writes to {@code addressBookStorage} at most
+     * {@code delayMillis} after a save is requested, where {@code addressBookStorage} already holds the address book
+     * at {@code savedVersion}. The exception of every requested save that fails is given to {@code failureHandler}
+     * on the thread that saves.
+     */
+    public AddressBookSaver(AddressBookStorage addressBookStorage, long delayMillis, long savedVersion,
+            Consumer<IOException> failureHandler) {
+        requireNonNull(addressBookStorage);
+        requireNonNull(failureHandler);
+        this.addressBookStorage = addressBookStorage;
+        this.delayMillis = delayMillis;
+        this.savedVersion = savedVersion;
+        this.failureHandler = failureHandler;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be saved, replacing any snapshot that has not been saved yet.
+     */
+    public synchronized void requestSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        pending = new AddressBookSnapshot(addressBook, savedVersion);
+        if (scheduledSave == null) {
+            scheduledSave = executor.schedule(this::saveScheduled, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Saves the snapshot that has not been saved yet, if any, and waits for the save to complete.
+     * This includes a snapshot whose requested save failed.
+     *
+     * @throws IOException if the save failed.
+     */
+    public void flush() throws IOException {
+        IOException failure;
+        try {
+            failure = executor.submit(this::savePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving data", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void saveScheduled() {
+        IOException failure = savePending();
+        if (failure != null) {
+            failureHandler.accept(failure);
+        }
+    }
+
+    /**
+     * Saves the snapshot that has not been saved yet, if any, keeping it to be saved again if the save fails and no
+     * newer snapshot has been requested meanwhile.
+     *
+     * @return the exception of the save if it failed, or null otherwise.
+     */
+    private IOException savePending() {
+        ReadOnlyAddressBook toSave;
+        synchronized (this) {
+            toSave = pending;
+            pending = null;
+            scheduledSave = null;
+        }
+        if (toSave == null) {
+            return null;
+        }
+
+        try {
+            addressBookStorage.saveAddressBook(toSave);
+        } catch (IOException e) {
+            logger.warning("Failed to save data file : " + StringUtil.getDetails(e));
+            synchronized (this) {
+                if (pending == null) {
+                    pending = toSave;
+                }
+            }
+            return e;
+        }
+        synchronized (this) {
+            savedVersion = toSave.getVersion();
+        }
+        return null;
+    }
+}
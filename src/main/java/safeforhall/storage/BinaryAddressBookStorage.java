@@ -0,0 +1,347 @@
+package safeforhall.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import safeforhall.commons.core.LogsCenter;
+import safeforhall.commons.exceptions.DataConversionException;
+import safeforhall.commons.exceptions.IllegalValueException;
+import safeforhall.commons.util.FileUtil;
+import safeforhall.model.AddressBook;
+import safeforhall.model.ReadOnlyAddressBook;
+import safeforhall.model.event.Event;
+import safeforhall.model.event.ResidentList;
+import safeforhall.model.event.exceptions.DuplicateEventException;
+import safeforhall.model.person.Person;
+import safeforhall.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * <p>
+ * The snapshot starts with a magic number and a format version, followed by a table of every distinct string in the
+ * address book. Persons are stored once, as indices into the string table, and events refer to their residents by
+ * their index in the list of persons instead of holding a copy of each resident's record. Residents of an event that
+ * are not in the address book are stored after the address book's persons so that they can be referred to the same
+ * way. Every person and event is stored with its id, except in snapshots of the first version, whose persons and
+ * events are given new ids when read.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+    public static final String MESSAGE_NOT_BINARY_SNAPSHOT = "File is not a binary SafeFor(H)All snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary snapshot version %d is not supported.";
+    public static final String MESSAGE_INVALID_REFERENCE = "Binary snapshot refers to a missing string or resident.";
+
+    static final int MAGIC = 0x53464842; // "SFHB"
+    static final int VERSION = 2;
+    static final int VERSION_WITHOUT_IDS = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+    private static final String JSON_FILE_EXTENSION = ".json";
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the binary snapshot kept in place of the json data file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + BINARY_FILE_EXTENSION);
+    }
+
+    /**
+     * Writes the address book in the json data file at {@code jsonFilePath} as a binary snapshot at
+     * {@code binaryFilePath}.
+     *
+     * @return true if the json data file was found and imported.
+     * @throws DataConversionException if the json data file is not in the correct format.
+     */
+    public static boolean importJson(Path jsonFilePath, Path binaryFilePath)
+            throws DataConversionException, IOException {
+        return copy(new JsonAddressBookStorage(jsonFilePath), new BinaryAddressBookStorage(binaryFilePath));
+    }
+
+    /**
+     * Writes the address book in the binary snapshot at {@code binaryFilePath} as a json data file at
+     * {@code jsonFilePath}.
+     *
+     * @return true if the binary snapshot was found and exported.
+     * @throws DataConversionException if the binary snapshot is not in the correct format.
+     */
+    public static boolean exportJson(Path binaryFilePath, Path jsonFilePath)
+            throws DataConversionException, IOException {
+        return copy(new BinaryAddressBookStorage(binaryFilePath), new JsonAddressBookStorage(jsonFilePath));
+    }
+
+    private static boolean copy(AddressBookStorage from, AddressBookStorage to)
+            throws DataConversionException, IOException {
+        Optional<ReadOnlyAddressBook> addressBook = from.readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+        to.saveAddressBook(addressBook.get());
+        return true;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(readAddressBook(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private static AddressBook readAddressBook(DataInputStream in) throws IOException, IllegalValueException {
+        int magic;
+        try {
+            magic = in.readInt();
+        } catch (EOFException e) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_SNAPSHOT);
+        }
+        if (magic != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_SNAPSHOT);
+        }
+        int version = readCount(in);
+        if (version != VERSION && version != VERSION_WITHOUT_IDS) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        // Counts are not used to size collections up front, as they cannot be trusted before the data is read
+        List<String> strings = new ArrayList<>();
+        int stringCount = readCount(in);
+        for (int i = 0; i < stringCount; i++) {
+            strings.add(in.readUTF());
+        }
+
+        int personCount = readCount(in);
+        int residentCount = readCount(in);
+        if (personCount > residentCount) {
+            throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+        }
+        List<JsonAdaptedPerson> adaptedResidents = new ArrayList<>();
+        for (int i = 0; i < residentCount; i++) {
+            adaptedResidents.add(new JsonAdaptedPerson(readId(in, version), readString(in, strings),
+                    readString(in, strings), readString(in, strings), readString(in, strings),
+                    readString(in, strings), readString(in, strings), readString(in, strings),
+                    readString(in, strings)));
+        }
+        List<Person> residents = new ArrayList<>();
+        ParallelModelConverter.convert(adaptedResidents, JsonAdaptedPerson::toModelType, residents::add);
+
+        AddressBook addressBook = new AddressBook();
+        for (Person person : residents.subList(0, personCount)) {
+            try {
+                addressBook.addPerson(person);
+            } catch (DuplicatePersonException e) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+        }
+
+        int eventCount = readCount(in);
+        for (int i = 0; i < eventCount; i++) {
+            // The event is checked as one without residents, as its residents have already been checked as persons
+            Event event = new JsonAdaptedEvent(readId(in, version), readString(in, strings),
+                    readString(in, strings), readString(in, strings), readString(in, strings),
+                    readString(in, strings), ResidentList.DEFAULT_LIST, null).toModelType();
+            List<Person> eventResidents = new ArrayList<>();
+            int eventResidentCount = readCount(in);
+            for (int j = 0; j < eventResidentCount; j++) {
+                eventResidents.add(get(residents, readCount(in)));
+            }
+            event = new Event(event.getId(), event.getEventName(), event.getEventDate(), event.getEventTime(),
+                    event.getVenue(), event.getCapacity(), ResidentList.fromResidents(eventResidents));
+            try {
+                addressBook.addEvent(event);
+            } catch (DuplicateEventException e) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT);
+            }
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The data file is only replaced once the address book has been fully written to disk.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileDurably(filePath, out -> {
+            try (DataOutputStream dataOut = new DataOutputStream(out)) {
+                writeAddressBook(dataOut, addressBook);
+            }
+        });
+    }
+
+    private static void writeAddressBook(DataOutputStream out, ReadOnlyAddressBook addressBook) throws IOException {
+        // Residents are numbered in order, starting with the persons of the address book
+        Map<Person, Integer> residentIndices = new LinkedHashMap<>();
+        addressBook.getPersonList().forEach(person -> residentIndices.putIfAbsent(person, residentIndices.size()));
+        int personCount = residentIndices.size();
+        for (Event event : addressBook.getEventList()) {
+            event.getResidentList().getResidents()
+                    .forEach(resident -> residentIndices.putIfAbsent(resident, residentIndices.size()));
+        }
+
+        Map<String, Integer> stringIds = new LinkedHashMap<>();
+        for (Person resident : residentIndices.keySet()) {
+            getPersonFields(resident).forEach(field -> stringIds.putIfAbsent(field, stringIds.size()));
+        }
+        for (Event event : addressBook.getEventList()) {
+            getEventFields(event).forEach(field -> stringIds.putIfAbsent(field, stringIds.size()));
+        }
+
+        out.writeInt(MAGIC);
+        writeCount(out, VERSION);
+
+        writeCount(out, stringIds.size());
+        for (String string : stringIds.keySet()) {
+            out.writeUTF(string);
+        }
+
+        writeCount(out, personCount);
+        writeCount(out, residentIndices.size());
+        for (Person resident : residentIndices.keySet()) {
+            writeCount(out, resident.getId());
+            for (String field : getPersonFields(resident)) {
+                writeCount(out, stringIds.get(field));
+            }
+        }
+
+        writeCount(out, addressBook.getEventList().size());
+        for (Event event : addressBook.getEventList()) {
+            writeCount(out, event.getId());
+            for (String field : getEventFields(event)) {
+                writeCount(out, stringIds.get(field));
+            }
+            List<Person> eventResidents = event.getResidentList().getResidents();
+            writeCount(out, eventResidents.size());
+            for (Person resident : eventResidents) {
+                writeCount(out, residentIndices.get(resident));
+            }
+        }
+    }
+
+    /**
+     * Returns the stored fields of {@code person}, in the order they are written.
+     */
+    private static List<String> getPersonFields(Person person) {
+        return List.of(person.getName().fullName, person.getRoom().room, person.getPhone().value,
+                person.getEmail().value, person.getVaccStatus().vaccStatus, person.getFaculty().faculty,
+                person.getLastFetDate().date, person.getLastCollectionDate().date);
+    }
+
+    /**
+     * Returns the stored fields of {@code event} other than its residents, in the order they are written.
+     */
+    private static List<String> getEventFields(Event event) {
+        return List.of(event.getEventName().eventName, event.getEventDate().eventDate,
+                event.getEventTime().eventTime, event.getVenue().venue, event.getCapacity().inputCapacity);
+    }
+
+    /**
+     * Writes {@code count} in as few bytes as it needs, seven bits at a time.
+     */
+    private static void writeCount(DataOutputStream out, int count) throws IOException {
+        while ((count & ~0x7F) != 0) {
+            out.writeByte((count & 0x7F) | 0x80);
+            count >>>= 7;
+        }
+        out.writeByte(count);
+    }
+
+    private static int readCount(DataInputStream in) throws IOException, IllegalValueException {
+        int count = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            count |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (count < 0) {
+                    throw new IllegalValueException(MESSAGE_NOT_BINARY_SNAPSHOT);
+                }
+                return count;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_NOT_BINARY_SNAPSHOT);
+    }
+
+    /**
+     * Returns the id written next, or null if snapshots of {@code version} are written without ids.
+     */
+    private static Integer readId(DataInputStream in, int version) throws IOException, IllegalValueException {
+        return version == VERSION_WITHOUT_IDS ? null : readCount(in);
+    }
+
+    private static String readString(DataInputStream in, List<String> strings)
+            throws IOException, IllegalValueException {
+        return get(strings, readCount(in));
+    }
+
+    private static <T> T get(List<T> list, int id) throws IllegalValueException {
+        if (id >= list.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+        }
+        return list.get(id);
+    }
+
+    @Override
+    public void createExportsFolder(Path filePath) throws IOException {
+        Files.createDirectories(filePath);
+    }
+
+}
@@ -0,0 +1,324 @@
+package safeforhall.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import safeforhall.commons.core.LogsCenter;
+import safeforhall.commons.exceptions.DataConversionException;
+import safeforhall.commons.exceptions.IllegalValueException;
+import safeforhall.commons.util.FileUtil;
+import safeforhall.commons.util.JsonUtil;
+import safeforhall.model.AddressBook;
+import safeforhall.model.AddressBookChange;
+import safeforhall.model.ReadOnlyAddressBook;
+import safeforhall.model.event.Event;
+import safeforhall.model.event.exceptions.DuplicateEventException;
+import safeforhall.model.person.Person;
+import safeforhall.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of the changes made
+ * since the snapshot was written.
+ * <p>
+ * The snapshot has the same format as the file of {@link JsonAddressBookStorage}. The journal is kept next to it,
+ * one json entry per line, and starts with an entry holding the checksum of the snapshot it applies to, so that a
+ * journal left behind by an interrupted compaction is never replayed onto the wrong snapshot.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+    public static final String MESSAGE_CORRUPTED_JOURNAL = "Journal contains an entry that cannot be read.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Path filePath;
+    private final int compactionThreshold;
+
+    // The data file and the version of the address book last read from or written to it by this storage.
+    // These are only kept while the journal of that file is known to be in a state that can be appended to.
+    private Path savedPath;
+    private long savedVersion;
+    private int journalLength;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that rewrites the snapshot once its journal would hold more than
+     * {@code compactionThreshold} changes.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold) {
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept for the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        forgetSavedState();
+
+        if (!Files.exists(filePath)) {
+            logger.info("Snapshot file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            byte[] snapshot = Files.readAllBytes(filePath);
+            AddressBook snapshotAddressBook = JsonUtil.fromJsonString(
+                    new String(snapshot, StandardCharsets.UTF_8), JsonSerializableAddressBook.class).toModelType();
+            List<Person> persons = new ArrayList<>(snapshotAddressBook.getPersonList());
+            List<Event> events = new ArrayList<>(snapshotAddressBook.getEventList());
+
+            Optional<Integer> replayed = replayJournal(getJournalFilePath(filePath), checksum(snapshot),
+                    persons, events);
+            AddressBook addressBook = toAddressBook(persons, events);
+
+            if (replayed.isPresent()) {
+                remember(filePath, addressBook.getVersion(), replayed.get());
+            }
+            return Optional.of(addressBook);
+        } catch (JsonProcessingException e) {
+            logger.warning("Error reading from snapshot file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Applies the entries of the journal at {@code journalPath} to {@code persons} and {@code events}.
+     *
+     * @return the number of entries applied, or {@code Optional.empty()} if the journal cannot be appended to,
+     *     in which case the next save has to write a new snapshot.
+     */
+    private Optional<Integer> replayJournal(Path journalPath, long snapshotChecksum, List<Person> persons,
+            List<Event> events) throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return Optional.empty();
+        }
+
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !readEntry(lines.get(0)).map(entry -> entry.isSnapshotOf(snapshotChecksum))
+                .orElse(false)) {
+            logger.warning("Journal file " + journalPath + " does not belong to its snapshot, ignoring it");
+            return Optional.empty();
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            Optional<JsonAdaptedJournalEntry> entry = readEntry(lines.get(i));
+            if (entry.isPresent()) {
+                entry.get().applyTo(persons, events);
+            } else if (i == lines.size() - 1) {
+                // the last write was interrupted before it completed
+                logger.warning("Ignoring incomplete last entry of journal file " + journalPath);
+                return Optional.empty();
+            } else {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_JOURNAL);
+            }
+        }
+        return Optional.of(lines.size() - 1);
+    }
+
+    private static Optional<JsonAdaptedJournalEntry> readEntry(String line) {
+        try {
+            return Optional.of(JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static AddressBook toAddressBook(List<Person> persons, List<Event> events) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        try {
+            addressBook.setEvents(events);
+        } catch (DuplicateEventException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Folds the journal into the snapshot and deletes the journal, so that the snapshot alone holds all the data, as
+     * storages that do not keep a journal expect. Nothing is done if there is no journal.
+     *
+     * @return true if there was a journal to fold in.
+     * @throws DataConversionException if the snapshot or journal is not in the correct format, in which case both are
+     *     left as they are.
+     */
+    public synchronized boolean compact() throws DataConversionException, IOException {
+        Path journalPath = getJournalFilePath(filePath);
+        if (!Files.exists(journalPath)) {
+            return false;
+        }
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook(filePath);
+        forgetSavedState();
+        if (addressBook.isPresent()) {
+            writeSnapshot(addressBook.get(), filePath);
+        }
+        Files.delete(journalPath);
+        return true;
+    }
+
+    @Override
+    public void createExportsFolder(Path filePath) throws IOException {
+        Files.createDirectories(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the changes that {@code addressBook} made since the version last saved are appended to the journal, unless
+     * the journal has grown past the compaction threshold or those changes are not known, in which case a new snapshot
+     * is written instead.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Optional<List<AddressBookChange>> changes = filePath.equals(savedPath)
+                ? addressBook.getChangesSince(savedVersion)
+                : Optional.empty();
+
+        if (changes.isPresent() && journalLength + changes.get().size() <= compactionThreshold) {
+            List<JsonAdaptedJournalEntry> entries = new ArrayList<>(changes.get().size());
+            changes.get().forEach(change -> entries.add(JsonAdaptedJournalEntry.of(change)));
+            try {
+                appendToJournal(getJournalFilePath(filePath), entries);
+            } catch (IOException e) {
+                // the journal may now end with an incomplete entry that must not be appended to
+                forgetSavedState();
+                throw e;
+            }
+            remember(filePath, addressBook.getVersion(), journalLength + entries.size());
+        } else {
+            // forget the saved state first, as a failed compaction leaves the journal in an unknown state
+            forgetSavedState();
+            writeSnapshot(addressBook, filePath);
+            remember(filePath, addressBook.getVersion(), 0);
+        }
+    }
+
+    private void appendToJournal(Path journalPath, List<JsonAdaptedJournalEntry> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toSingleLineJsonString(entry)).append('\n');
+        }
+        writeDurably(journalPath, lines.toString().getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot at {@code filePath}, together with an empty journal for it.
+     * Both files are written to temporary files first and then moved into place.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        byte[] snapshot = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook))
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] journal = (JsonUtil.toSingleLineJsonString(JsonAdaptedJournalEntry.snapshot(checksum(snapshot)))
+                + '\n').getBytes(StandardCharsets.UTF_8);
+
+        Path journalPath = getJournalFilePath(filePath);
+        Path tempSnapshotPath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        Path tempJournalPath = journalPath.resolveSibling(journalPath.getFileName() + TEMP_FILE_SUFFIX);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        writeDurably(tempSnapshotPath, snapshot, StandardOpenOption.TRUNCATE_EXISTING);
+        writeDurably(tempJournalPath, journal, StandardOpenOption.TRUNCATE_EXISTING);
+        move(tempSnapshotPath, filePath);
+        move(tempJournalPath, journalPath);
+    }
+
+    private static void writeDurably(Path path, byte[] bytes, OpenOption mode) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                mode)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static long checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    private void remember(Path filePath, long version, int journalLength) {
+        this.savedPath = filePath;
+        this.savedVersion = version;
+        this.journalLength = journalLength;
+    }
+
+    private void forgetSavedState() {
+        remember(null, 0, 0);
+    }
+}
@@ -1,6 +1,16 @@
 package safeforhall.storage;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import safeforhall.commons.exceptions.IllegalValueException;
@@ -11,57 +21,146 @@ import safeforhall.model.event.EventName;
 import safeforhall.model.event.EventTime;
 import safeforhall.model.event.ResidentList;
 import safeforhall.model.event.Venue;
+import safeforhall.model.person.Person;
+import safeforhall.model.person.Room;
 
 /**
  * Jackson-friendly version of {@link Event}.
+ * <p>
+ * Residents are listed by room in {@code residentRooms}, and are found among the persons of the address book when
+ * read. Only residents that are not in the address book have their full details kept in {@code residents}. Events
+ * stored before {@code residentRooms} was added keep the full details of every resident in {@code residents}, and
+ * those stored before ids were added have no {@code id} and are given a new one when read.
  */
 class JsonAdaptedEvent {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Event's %s field is missing!";
+    public static final String MESSAGE_MISSING_RESIDENT = "Event's resident in room %s is not found!";
+
+    private static final Pattern RESIDENTS_SPLIT = Pattern.compile("\\s*,\\s*");
+    private static final Pattern RESIDENT_FIELDS_SPLIT = Pattern.compile("\\s*;\\s*");
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer id;
     private final String eventName;
     private final String eventDate;
     private final String eventTime;
     private final String venue;
     private final String capacity;
     private final String residents;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final List<String> residentRooms;
+
+    /**
+     * Constructs a {@code JsonAdaptedEvent} with the given event details, where {@code residents} holds the full
+     * details of every resident.
+     */
+    public JsonAdaptedEvent(String eventName, String eventDate, String eventTime, String venue, String capacity,
+                            String residents) {
+        this(eventName, eventDate, eventTime, venue, capacity, residents, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedEvent} with the given event details, which is given a new id when read.
+     */
+    public JsonAdaptedEvent(String eventName, String eventDate, String eventTime, String venue, String capacity,
+                            String residents, List<String> residentRooms) {
+        this(null, eventName, eventDate, eventTime, venue, capacity, residents, residentRooms);
+    }
 
     /**
      * Constructs a {@code JsonAdaptedEvent} with the given event details.
      */
     @JsonCreator
-    public JsonAdaptedEvent(@JsonProperty("eventName") String eventName,
+    public JsonAdaptedEvent(@JsonProperty("id") Integer id,
+                             @JsonProperty("eventName") String eventName,
                              @JsonProperty("eventDate") String eventDate,
                              @JsonProperty("eventTime") String eventTime,
                              @JsonProperty("venue") String venue,
                              @JsonProperty("capacity") String capacity,
-                            @JsonProperty("residents") String residents) {
+                            @JsonProperty("residents") String residents,
+                            @JsonProperty("residentRooms") List<String> residentRooms) {
+        this.id = id;
         this.eventName = eventName;
         this.eventDate = eventDate;
         this.eventTime = eventTime;
         this.venue = venue;
         this.capacity = capacity;
         this.residents = residents;
+        this.residentRooms = residentRooms;
     }
 
     /**
-     * Converts a given {@code Event} into this class for Jackson use.
+     * Converts a given {@code Event} into this class for Jackson use, keeping the full details of every resident.
      */
     public JsonAdaptedEvent(Event source) {
+        id = source.getId() == Event.NO_ID ? null : source.getId();
         eventName = source.getEventName().eventName;
         eventDate = source.getEventDate().eventDate;
         eventTime = source.getEventTime().eventTime;
         venue = source.getVenue().venue;
         capacity = source.getCapacity().inputCapacity;
         residents = source.getResidentList().getResidentsStorage();
+        residentRooms = null;
+    }
+
+    /**
+     * Converts a given {@code Event} into this class for Jackson use, referring to the residents that are found by
+     * {@code personByRoom} by their room only.
+     */
+    public JsonAdaptedEvent(Event source, Function<Room, Optional<Person>> personByRoom) {
+        id = source.getId() == Event.NO_ID ? null : source.getId();
+        eventName = source.getEventName().eventName;
+        eventDate = source.getEventDate().eventDate;
+        eventTime = source.getEventTime().eventTime;
+        venue = source.getVenue().venue;
+        capacity = source.getCapacity().inputCapacity;
+
+        List<Person> sourceResidents = source.getResidentList().getResidents();
+        List<Person> detachedResidents = new ArrayList<>();
+        residentRooms = new ArrayList<>(sourceResidents.size());
+        for (Person resident : sourceResidents) {
+            residentRooms.add(resident.getRoom().room);
+            if (!findResident(resident, personByRoom).isPresent()) {
+                detachedResidents.add(resident);
+            }
+        }
+        residents = detachedResidents.isEmpty()
+                ? ResidentList.DEFAULT_LIST
+                : detachedResidents.stream().map(Person::toString).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Returns a function that finds the person in {@code persons} with a given room.
+     */
+    public static Function<Room, Optional<Person>> indexByRoom(List<Person> persons) {
+        Map<Room, Person> index = new HashMap<>();
+        persons.forEach(person -> index.put(person.getRoom(), person));
+        return room -> Optional.ofNullable(index.get(room));
     }
 
     /**
      * Converts this Jackson-friendly adapted event object into the model's {@code Event} object.
+     * Every resident is taken from the full details stored with the event.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted event.
      */
     public Event toModelType() throws IllegalValueException {
+        return toModelType(room -> Optional.empty());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted event object into the model's {@code Event} object.
+     * Residents are taken from the persons found by {@code personByRoom} where possible.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted event.
+     */
+    public Event toModelType(Function<Room, Optional<Person>> personByRoom) throws IllegalValueException {
+        // Id
+        if (id != null && !Event.isValidId(id)) {
+            throw new IllegalValueException(Event.MESSAGE_ID_CONSTRAINTS);
+        }
+
         // EventName
         if (eventName == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -92,7 +191,7 @@ class JsonAdaptedEvent {
         if (!EventTime.isValidEventTime(eventTime)) {
             throw new IllegalValueException(EventTime.MESSAGE_CONSTRAINTS);
         }
-        final EventTime modelEventTime = new EventTime(eventTime);
+        final EventTime modelEventTime = EventTime.of(eventTime);
 
         // Venue
 
@@ -102,7 +201,7 @@ class JsonAdaptedEvent {
         if (!Venue.isValidVenue(venue)) {
             throw new IllegalValueException(Venue.MESSAGE_CONSTRAINTS);
         }
-        final Venue modelVenue = new Venue(venue);
+        final Venue modelVenue = Venue.of(venue);
 
         // Capacity
 
@@ -120,12 +219,15 @@ class JsonAdaptedEvent {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     ResidentList.class.getSimpleName()));
         }
+        if (!ResidentList.isValidResidentStorage(residents)) {
+            throw new IllegalValueException(ResidentList.MESSAGE_CONSTRAINTS);
+        }
 
-        String[] persons = residents.split("\\s*,\\s*");
+        String[] persons = RESIDENTS_SPLIT.split(residents);
         StringBuilder stringBuilder = new StringBuilder("");
         int count = 0;
         for (String person : persons) {
-            String[] information = person.split("\\s*;\\s*");
+            String[] information = RESIDENT_FIELDS_SPLIT.split(person);
             if (count == 0) {
                 stringBuilder.append(information[0]);
             } else {
@@ -133,13 +235,38 @@ class JsonAdaptedEvent {
             }
             count++;
         }
-        if (!ResidentList.isValidResidentStorage(residents)) {
-            throw new IllegalValueException(ResidentList.MESSAGE_CONSTRAINTS);
+        final List<Person> storedResidents = new ResidentList(stringBuilder.toString(), residents).getResidents();
+
+        final List<Person> modelResidents = new ArrayList<>();
+        if (residentRooms == null) {
+            for (Person resident : storedResidents) {
+                modelResidents.add(findResident(resident, personByRoom).orElse(resident));
+            }
+        } else {
+            Map<Room, Person> detachedResidents = new HashMap<>();
+            storedResidents.forEach(resident -> detachedResidents.put(resident.getRoom(), resident));
+            for (String residentRoom : residentRooms) {
+                if (residentRoom == null || !Room.isValidRoom(residentRoom)) {
+                    throw new IllegalValueException(Room.MESSAGE_CONSTRAINTS);
+                }
+                Room room = new Room(residentRoom);
+                Optional<Person> resident = Optional.ofNullable(detachedResidents.get(room))
+                        .or(() -> personByRoom.apply(room));
+                modelResidents.add(resident.orElseThrow(() ->
+                        new IllegalValueException(String.format(MESSAGE_MISSING_RESIDENT, residentRoom))));
+            }
         }
-        final ResidentList modelResidentList = new ResidentList(stringBuilder.toString(), residents);
+        final ResidentList modelResidentList = ResidentList.fromResidents(modelResidents);
 
-        return new Event(modelEventName, modelEventDate, modelEventTime,
+        return new Event(id == null ? Event.NO_ID : id, modelEventName, modelEventDate, modelEventTime,
                 modelVenue, modelCapacity, modelResidentList);
     }
 
+    /**
+     * Returns the person found by {@code personByRoom} in the room of {@code resident}, if it is the same resident.
+     */
+    private static Optional<Person> findResident(Person resident, Function<Room, Optional<Person>> personByRoom) {
+        return personByRoom.apply(resident.getRoom()).filter(resident::isSameNamePerson);
+    }
+
 }
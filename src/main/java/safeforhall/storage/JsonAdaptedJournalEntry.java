@@ -0,0 +1,180 @@
+package safeforhall.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import safeforhall.commons.exceptions.IllegalValueException;
+import safeforhall.model.AddressBookChange;
+import safeforhall.model.event.Event;
+import safeforhall.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change recorded in the journal of a {@link JournalAddressBookStorage}.
+ * Persons and events are referred to by their index in the address book's lists.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_INVALID_INDEX = "Journal entry refers to an index that does not exist!";
+
+    /**
+     * The kinds of journal entries.
+     */
+    enum Type {
+        /** The first entry of a journal, identifying the snapshot that the journal applies to. */
+        SNAPSHOT,
+        ADD_PERSON, SET_PERSON, REMOVE_PERSON,
+        ADD_EVENT, SET_EVENT, REMOVE_EVENT
+    }
+
+    private final Type type;
+    private final Long checksum;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedEvent event;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("type") Type type, @JsonProperty("checksum") Long checksum,
+                                   @JsonProperty("index") Integer index,
+                                   @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("event") JsonAdaptedEvent event) {
+        this.type = type;
+        this.checksum = checksum;
+        this.index = index;
+        this.person = person;
+        this.event = event;
+    }
+
+    /**
+     * Returns the entry that starts a journal for the snapshot with the given {@code checksum}.
+     */
+    public static JsonAdaptedJournalEntry snapshot(long checksum) {
+        return new JsonAdaptedJournalEntry(Type.SNAPSHOT, checksum, null, null, null);
+    }
+
+    /**
+     * Returns the entry recording {@code change}.
+     */
+    public static JsonAdaptedJournalEntry of(AddressBookChange change) {
+        switch (change.getType()) {
+        case ADD_PERSON:
+            return setPerson(null, change.getPerson());
+        case SET_PERSON:
+            return setPerson(change.getIndex(), change.getPerson());
+        case REMOVE_PERSON:
+            return removePerson(change.getIndex());
+        case ADD_EVENT:
+            return setEvent(null, change.getEvent());
+        case SET_EVENT:
+            return setEvent(change.getIndex(), change.getEvent());
+        case REMOVE_EVENT:
+            return removeEvent(change.getIndex());
+        default:
+            throw new IllegalArgumentException("Unknown change type: " + change.getType());
+        }
+    }
+
+    /**
+     * Returns the entry for {@code person} being added to the end of the person list, or replacing the person at
+     * {@code index} if it is not null.
+     */
+    public static JsonAdaptedJournalEntry setPerson(Integer index, Person person) {
+        Type type = index == null ? Type.ADD_PERSON : Type.SET_PERSON;
+        return new JsonAdaptedJournalEntry(type, null, index, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns the entry for the person at {@code index} being removed.
+     */
+    public static JsonAdaptedJournalEntry removePerson(int index) {
+        return new JsonAdaptedJournalEntry(Type.REMOVE_PERSON, null, index, null, null);
+    }
+
+    /**
+     * Returns the entry for {@code event} being added to the end of the event list, or replacing the event at
+     * {@code index} if it is not null.
+     */
+    public static JsonAdaptedJournalEntry setEvent(Integer index, Event event) {
+        Type type = index == null ? Type.ADD_EVENT : Type.SET_EVENT;
+        return new JsonAdaptedJournalEntry(type, null, index, null, new JsonAdaptedEvent(event));
+    }
+
+    /**
+     * Returns the entry for the event at {@code index} being removed.
+     */
+    public static JsonAdaptedJournalEntry removeEvent(int index) {
+        return new JsonAdaptedJournalEntry(Type.REMOVE_EVENT, null, index, null, null);
+    }
+
+    /**
+     * Returns true if this entry starts a journal for the snapshot with the given {@code checksum}.
+     */
+    public boolean isSnapshotOf(long checksum) {
+        return type == Type.SNAPSHOT && this.checksum != null && this.checksum == checksum;
+    }
+
+    /**
+     * Applies the change of this entry to the given lists of {@code persons} and {@code events}.
+     *
+     * @throws IllegalValueException if the entry is incomplete, or its person or event is not valid.
+     */
+    public void applyTo(List<Person> persons, List<Event> events) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        switch (type) {
+        case ADD_PERSON:
+            persons.add(getPerson());
+            break;
+        case SET_PERSON:
+            persons.set(getIndex(persons), getPerson());
+            break;
+        case REMOVE_PERSON:
+            persons.remove(getIndex(persons));
+            break;
+        case ADD_EVENT:
+            events.add(getEvent());
+            break;
+        case SET_EVENT:
+            events.set(getIndex(events), getEvent());
+            break;
+        case REMOVE_EVENT:
+            events.remove(getIndex(events));
+            break;
+        default:
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+    }
+
+    private int getIndex(List<?> list) throws IllegalValueException {
+        if (index == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+        }
+        if (index < 0 || index >= list.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_INDEX);
+        }
+        return index;
+    }
+
+    private Person getPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return person.toModelType();
+    }
+
+    private Event getEvent() throws IllegalValueException {
+        if (event == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "event"));
+        }
+        return event.toModelType();
+    }
+}
@@ -1,6 +1,7 @@
 package safeforhall.storage;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import safeforhall.commons.exceptions.IllegalValueException;
@@ -15,11 +16,15 @@ import safeforhall.model.person.VaccStatus;
 
 /**
  * Jackson-friendly version of {@link Person}.
+ * <p>
+ * Persons stored before ids were added have no {@code id}, and are given a new one when read.
  */
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer id;
     private final String name;
     private final String room;
     private final String phone;
@@ -29,11 +34,20 @@ class JsonAdaptedPerson {
     private final String lastFetDate;
     private final String lastCollectionDate;
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details, which is given a new id when read.
+     */
+    public JsonAdaptedPerson(String name, String room, String phone, String email, String vaccStatus, String faculty,
+                             String lastFetDate, String lastCollectionDate) {
+        this(null, name, room, phone, email, vaccStatus, faculty, lastFetDate, lastCollectionDate);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name,
+    public JsonAdaptedPerson(@JsonProperty("id") Integer id,
+                             @JsonProperty("name") String name,
                              @JsonProperty("room") String room,
                              @JsonProperty("phone") String phone,
                              @JsonProperty("email") String email,
@@ -41,6 +55,7 @@ class JsonAdaptedPerson {
                              @JsonProperty("faculty") String faculty,
                              @JsonProperty("lastFetDate") String lastFetDate,
                              @JsonProperty("lastCollectionDate") String lastCollectionDate) {
+        this.id = id;
         this.name = name;
         this.room = room;
         this.phone = phone;
@@ -55,6 +70,7 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId() == Person.NO_ID ? null : source.getId();
         name = source.getName().fullName;
         room = source.getRoom().room;
         phone = source.getPhone().value;
@@ -71,6 +87,11 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        // Id
+        if (id != null && !Person.isValidId(id)) {
+            throw new IllegalValueException(Person.MESSAGE_ID_CONSTRAINTS);
+        }
+
         // Name
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
@@ -115,7 +136,7 @@ class JsonAdaptedPerson {
         if (!VaccStatus.isValidVaccStatus(vaccStatus)) {
             throw new IllegalValueException(VaccStatus.MESSAGE_CONSTRAINTS);
         }
-        final VaccStatus modelVaccStatus = new VaccStatus(vaccStatus);
+        final VaccStatus modelVaccStatus = VaccStatus.of(vaccStatus);
 
         // Faculty
         if (faculty == null) {
@@ -125,21 +146,21 @@ class JsonAdaptedPerson {
         if (!Faculty.isValidFaculty(faculty)) {
             throw new IllegalValueException(Faculty.MESSAGE_CONSTRAINTS);
         }
-        final Faculty modelFaculty = new Faculty(faculty);
+        final Faculty modelFaculty = Faculty.of(faculty);
 
         // LastFetDate
         if (!LastDate.isValidDate(lastFetDate)) {
             throw new IllegalValueException(LastDate.MESSAGE_CONSTRAINTS);
         }
-        final LastDate modelFetDate = new LastDate(lastFetDate);
+        final LastDate modelFetDate = LastDate.of(lastFetDate);
 
         // LastCollectionDate
         if (!LastDate.isValidDate(lastCollectionDate)) {
             throw new IllegalValueException(LastDate.MESSAGE_CONSTRAINTS);
         }
-        final LastDate modelCollectionDate = new LastDate(lastCollectionDate);
+        final LastDate modelCollectionDate = LastDate.of(lastCollectionDate);
 
-        return new Person(modelName, modelRoom, modelPhone, modelEmail,
+        return new Person(id == null ? Person.NO_ID : id, modelName, modelRoom, modelPhone, modelEmail,
                 modelVaccStatus, modelFaculty, modelFetDate, modelCollectionDate);
     }
 
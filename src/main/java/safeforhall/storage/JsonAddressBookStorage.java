@@ -5,15 +5,27 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import safeforhall.commons.core.LogsCenter;
 import safeforhall.commons.exceptions.DataConversionException;
 import safeforhall.commons.exceptions.IllegalValueException;
 import safeforhall.commons.util.FileUtil;
 import safeforhall.commons.util.JsonUtil;
+import safeforhall.model.AddressBook;
 import safeforhall.model.ReadOnlyAddressBook;
+import safeforhall.model.event.Event;
+import safeforhall.model.person.Person;
+import safeforhall.model.person.Room;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -21,6 +33,10 @@ import safeforhall.model.ReadOnlyAddressBook;
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+    private static final String PERSONS_FIELD = "persons";
+    private static final String EVENTS_FIELD = "events";
+    // Number of persons or events read from the file before they are converted together.
+    private static final int BATCH_SIZE = 1024;
 
     private Path filePath;
 
@@ -39,6 +55,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is read in batches of persons or events, each batch being converted into the model's objects in
+     * parallel before the next one is read.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
@@ -46,20 +64,72 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(readAddressBook(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Reads an address book in the format of {@link JsonSerializableAddressBook} from {@code parser}.
+     * The residents of events are found among the persons, so events listed before the persons are held back until
+     * the persons have been read, rather than converted in batches.
+     */
+    private static AddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected the address book to be a json object");
+        }
+
+        AddressBook addressBook = new AddressBook();
+        boolean hasReadPersons = false;
+        List<JsonAdaptedEvent> heldBackEvents = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (PERSONS_FIELD.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                List<JsonAdaptedPerson> persons = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    persons.add(parser.readValueAs(JsonAdaptedPerson.class));
+                    if (persons.size() == BATCH_SIZE) {
+                        JsonSerializableAddressBook.addPersons(addressBook, persons);
+                        persons.clear();
+                    }
+                }
+                JsonSerializableAddressBook.addPersons(addressBook, persons);
+                hasReadPersons = true;
+                JsonSerializableAddressBook.addEvents(addressBook, heldBackEvents);
+                heldBackEvents.clear();
+            } else if (EVENTS_FIELD.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                List<JsonAdaptedEvent> events = hasReadPersons ? new ArrayList<>() : heldBackEvents;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    events.add(parser.readValueAs(JsonAdaptedEvent.class));
+                    if (hasReadPersons && events.size() == BATCH_SIZE) {
+                        JsonSerializableAddressBook.addEvents(addressBook, events);
+                        events.clear();
+                    }
+                }
+                if (hasReadPersons) {
+                    JsonSerializableAddressBook.addEvents(addressBook, events);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        // a file without persons can still have events, whose residents are then all stored in full
+        JsonSerializableAddressBook.addEvents(addressBook, heldBackEvents);
+        return addressBook;
+    }
+
     @Override
     public void createExportsFolder(Path filePath) throws IOException {
         Files.createDirectories(filePath);
@@ -72,6 +142,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The data file is only replaced once the address book has been fully written to disk.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -79,8 +150,32 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeToFileDurably(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                writeAddressBook(generator, addressBook);
+            }
+        });
+    }
+
+    /**
+     * Writes {@code addressBook} in the format of {@link JsonSerializableAddressBook} to {@code generator}, one
+     * person or event at a time.
+     */
+    private static void writeAddressBook(JsonGenerator generator, ReadOnlyAddressBook addressBook)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Person person : addressBook.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart(EVENTS_FIELD);
+        Function<Room, Optional<Person>> personByRoom = JsonAdaptedEvent.indexByRoom(addressBook.getPersonList());
+        for (Event event : addressBook.getEventList()) {
+            generator.writeObject(new JsonAdaptedEvent(event, personByRoom));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
     }
 
 }
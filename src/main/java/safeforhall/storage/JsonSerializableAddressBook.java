@@ -2,6 +2,8 @@ package safeforhall.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -11,8 +13,10 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import safeforhall.commons.exceptions.IllegalValueException;
 import safeforhall.model.AddressBook;
 import safeforhall.model.ReadOnlyAddressBook;
-import safeforhall.model.event.Event;
+import safeforhall.model.event.exceptions.DuplicateEventException;
 import safeforhall.model.person.Person;
+import safeforhall.model.person.Room;
+import safeforhall.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -42,32 +46,63 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        Function<Room, Optional<Person>> personByRoom = JsonAdaptedEvent.indexByRoom(source.getPersonList());
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
-        events.addAll(source.getEventList().stream().map(JsonAdaptedEvent::new).collect(Collectors.toList()));
+        events.addAll(source.getEventList().stream().map(event -> new JsonAdaptedEvent(event, personByRoom))
+                .collect(Collectors.toList()));
     }
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Persons and events are converted in parallel, but are added in the order they appear in.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
+        addPersons(addressBook, persons);
+        addEvents(addressBook, events);
+        return addressBook;
+    }
+
+    /**
+     * Converts {@code persons} and adds them to {@code addressBook}.
+     * A person whose id has already been given to another person, such as one stored without an id before it, is given
+     * a new id.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addPersons(AddressBook addressBook, List<JsonAdaptedPerson> persons) throws IllegalValueException {
+        ParallelModelConverter.convert(persons, JsonAdaptedPerson::toModelType, person -> {
             if (addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            addressBook.addPerson(person);
-        }
-        for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
+            try {
+                addressBook.addPerson(person);
+            } catch (DuplicatePersonException e) {
+                addressBook.addPerson(person.withoutId());
+            }
+        });
+    }
+
+    /**
+     * Converts {@code events} and adds them to {@code addressBook}.
+     * Residents of the events are taken from the persons already in {@code addressBook} where possible. An event whose
+     * id has already been given to another event is given a new id.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addEvents(AddressBook addressBook, List<JsonAdaptedEvent> events) throws IllegalValueException {
+        ParallelModelConverter.convert(events, event -> event.toModelType(addressBook::findPersonByRoom), event -> {
             if (addressBook.hasEvent(event)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
             }
-            addressBook.addEvent(event);
-        }
-        return addressBook;
+            try {
+                addressBook.addEvent(event);
+            } catch (DuplicateEventException e) {
+                addressBook.addEvent(event.withoutId());
+            }
+        });
     }
 
 }
@@ -0,0 +1,129 @@
+package safeforhall.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import safeforhall.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts Jackson-friendly adapted objects into the model's objects on the common fork-join pool.
+ * <p>
+ * The sources are split into chunks that are converted independently, but the converted objects are handed out in
+ * the order of their sources, and the failure reported is always that of the first source that cannot be converted,
+ * as if the sources had been converted one at a time.
+ */
+final class ParallelModelConverter {
+
+    /** Number of sources below which a chunk is converted without being split further. */
+    static final int CHUNK_SIZE = 64;
+
+    private ParallelModelConverter() {}
+
+    /**
+     * Represents a conversion of an adapted object into a model object.
+     */
+    @FunctionalInterface
+    interface Conversion<T, R> {
+        R apply(T source) throws IllegalValueException;
+    }
+
+    /**
+     * Represents a step that takes in converted model objects one at a time.
+     */
+    @FunctionalInterface
+    interface Sink<R> {
+        void accept(R converted) throws IllegalValueException;
+    }
+
+    /**
+     * Converts every object in {@code sources} with {@code conversion} and passes the results to {@code sink} in the
+     * order of {@code sources}.
+     * Once some source is found to be invalid, sources after it are no longer converted; the results before it are
+     * still passed to {@code sink} before its failure is thrown.
+     *
+     * @throws IllegalValueException if a source cannot be converted, or if {@code sink} rejects a result.
+     */
+    static <T, R> void convert(List<T> sources, Conversion<T, R> conversion, Sink<R> sink)
+            throws IllegalValueException {
+        requireNonNull(sources);
+        requireNonNull(conversion);
+        requireNonNull(sink);
+
+        if (sources.size() <= CHUNK_SIZE) {
+            for (T source : sources) {
+                sink.accept(conversion.apply(source));
+            }
+            return;
+        }
+
+        ConversionTask<T, R> task = new ConversionTask<>(sources, conversion);
+        ForkJoinPool.commonPool().invoke(task);
+
+        int firstFailure = task.firstFailure.get();
+        for (int i = 0; i < firstFailure; i++) {
+            sink.accept(task.results[i]);
+        }
+        if (firstFailure < sources.size()) {
+            throw task.failures[firstFailure];
+        }
+    }
+
+    /**
+     * Converts the sources in {@code [from, to)}, splitting the range in halves until it is at most
+     * {@link #CHUNK_SIZE} long.
+     */
+    private static class ConversionTask<T, R> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> sources;
+        private final Conversion<T, R> conversion;
+        private final R[] results;
+        private final IllegalValueException[] failures;
+        private final AtomicInteger firstFailure;
+        private final int from;
+        private final int to;
+
+        @SuppressWarnings("unchecked")
+        ConversionTask(List<T> sources, Conversion<T, R> conversion) {
+            this(sources, conversion, (R[]) new Object[sources.size()],
+                    new IllegalValueException[sources.size()], new AtomicInteger(sources.size()), 0, sources.size());
+        }
+
+        private ConversionTask(List<T> sources, Conversion<T, R> conversion, R[] results,
+                IllegalValueException[] failures, AtomicInteger firstFailure, int from, int to) {
+            this.sources = sources;
+            this.conversion = conversion;
+            this.results = results;
+            this.failures = failures;
+            this.firstFailure = firstFailure;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CHUNK_SIZE) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new ConversionTask<>(sources, conversion, results, failures, firstFailure, from, mid),
+                        new ConversionTask<>(sources, conversion, results, failures, firstFailure, mid, to));
+                return;
+            }
+
+            // A source is only skipped once an earlier one is known to be invalid, so the first invalid source
+            // is always converted.
+            for (int i = from; i < to && i < firstFailure.get(); i++) {
+                try {
+                    results[i] = conversion.apply(sources.get(i));
+                } catch (IllegalValueException e) {
+                    failures[i] = e;
+                    firstFailure.accumulateAndGet(i, Math::min);
+                    return;
+                }
+            }
+        }
+    }
+}
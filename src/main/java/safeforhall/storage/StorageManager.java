@@ -7,7 +7,9 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import safeforhall.commons.core.LogsCenter;
+import safeforhall.commons.core.StorageFormat;
 import safeforhall.commons.exceptions.DataConversionException;
+import safeforhall.commons.util.StringUtil;
 import safeforhall.model.ReadOnlyAddressBook;
 import safeforhall.model.ReadOnlyUserPrefs;
 import safeforhall.model.UserPrefs;
@@ -30,6 +32,72 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} of {@code format} for the address book at {@code jsonFilePath}, carrying
+     * over the data saved in any other storage format.
+     * <p>
+     * A journal left next to the json file is folded into it unless the journal is kept on using, as the other
+     * formats only read the json file. A data file of the other format is converted and then removed, so that only
+     * the data file of the format last used holds the data.
+     */
+    public static AddressBookStorage openAddressBookStorage(Path jsonFilePath, StorageFormat format) {
+        Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath);
+        if (format != StorageFormat.JOURNAL) {
+            compactJournal(jsonFilePath);
+        }
+        switch (format) {
+        case BINARY:
+            convertDataFile(jsonFilePath, binaryFilePath, BinaryAddressBookStorage::importJson);
+            return new BinaryAddressBookStorage(binaryFilePath);
+        case JOURNAL:
+            convertDataFile(binaryFilePath, jsonFilePath, BinaryAddressBookStorage::exportJson);
+            return new JournalAddressBookStorage(jsonFilePath);
+        default:
+            convertDataFile(binaryFilePath, jsonFilePath, BinaryAddressBookStorage::exportJson);
+            return new JsonAddressBookStorage(jsonFilePath);
+        }
+    }
+
+    /**
+     * Folds the journal of the json file at {@code jsonFilePath} into it, if there is one.
+     * The journal is left in place if it cannot be read, so that its changes can still be recovered.
+     */
+    private static void compactJournal(Path jsonFilePath) {
+        try {
+            if (new JournalAddressBookStorage(jsonFilePath).compact()) {
+                logger.info("Folded the journal of data file " + jsonFilePath + " into it");
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to fold the journal of data file " + jsonFilePath + " into it, "
+                    + "changes saved since the last snapshot will not be loaded: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Converts the data file at {@code from} into the data file at {@code to} with {@code conversion}, so that
+     * data saved in one storage format is kept when switching to another, and deletes the data file at {@code from}
+     * once it is converted. <br>
+     * Nothing is converted if there is no data file at {@code from}, and it is left in place if it cannot be read.
+     */
+    private static void convertDataFile(Path from, Path to, DataFileConversion conversion) {
+        try {
+            if (conversion.convert(from, to)) {
+                Files.delete(from);
+                logger.info("Converted data file " + from + " into " + to);
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to convert data file " + from + " into " + to + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Represents a conversion of the data file at one path into a data file of another storage format.
+     */
+    @FunctionalInterface
+    private interface DataFileConversion {
+        boolean convert(Path from, Path to) throws DataConversionException, IOException;
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
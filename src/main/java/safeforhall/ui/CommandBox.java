@@ -11,7 +11,7 @@ import javafx.scene.layout.Background;
 import javafx.scene.layout.Region;
 import safeforhall.logic.Logic;
 import safeforhall.logic.commands.ClearCommand;
-import safeforhall.logic.commands.CommandResult;
+import safeforhall.logic.commands.CountCommand;
 import safeforhall.logic.commands.DeadlineCommand;
 import safeforhall.logic.commands.ExcludeCommand;
 import safeforhall.logic.commands.ExitCommand;
@@ -45,6 +45,7 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final Runnable commandCanceller;
 
     private ArrayList<String> historicals = new ArrayList<>();
     private int current = 0;
@@ -59,11 +60,13 @@ public class CommandBox extends UiPart<Region> {
     private TextField suggestions;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, and the given {@code commandCanceller}
+     * that is run when Esc is pressed.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, Runnable commandCanceller) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandCanceller = commandCanceller;
         main.setBackground(Background.EMPTY);
         main.setPrefWidth(1600);
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
@@ -72,6 +75,7 @@ public class CommandBox extends UiPart<Region> {
         suggestions.setDisable(true);
         main.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
         handleCommandEntered();
+        handleCancel();
         handleInput();
         handleHistory();
     }
@@ -102,6 +106,29 @@ public class CommandBox extends UiPart<Region> {
         });
     }
 
+    /**
+     * Handles the Esc button pressed event.
+     */
+    private void handleCancel() {
+        getRoot().addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.ESCAPE) {
+                commandCanceller.run();
+                event.consume();
+            }
+        });
+    }
+
+    /**
+     * Shows {@code commandText} again, styled to indicate that it failed, unless another command has been typed.
+     */
+    public void indicateCommandFailure(String commandText) {
+        if (main.getText().isEmpty()) {
+            main.setText(commandText);
+            main.positionCaret(commandText.length());
+        }
+        setStyleToIndicateCommandFailure();
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -228,6 +255,8 @@ public class CommandBox extends UiPart<Region> {
             return HelpCommand.PARAMETERS;
         case DeadlineCommand.COMMAND_WORD:
             return DeadlineCommand.PARAMETERS;
+        case CountCommand.COMMAND_WORD:
+            return CountCommand.PARAMETERS;
         case ImportCommand.COMMAND_WORD:
             return ImportCommand.PARAMETERS;
         case ExportCommand.COMMAND_WORD:
@@ -286,11 +315,11 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command, whose result may only be known after returning.
          *
-         * @see Logic#execute(String, Boolean)
+         * @see Logic#executeInBackground(String, Boolean, safeforhall.logic.CommandListener)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        void execute(String commandText) throws CommandException, ParseException;
     }
 
     public void setIsResidentTab(boolean isResidentTab) {
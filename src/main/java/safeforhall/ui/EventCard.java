@@ -23,7 +23,12 @@ public class EventCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Event event;
+    private static final String UNVACCINATED_STYLE =
+            "-fx-border-color: derive(#FF0000, 70%); -fx-border-width: 1 1 1 7;-fx-border-radius: 5";
+    private static final String OVER_STYLE =
+            "-fx-border-color: derive(#A9A9A9, 70%); -fx-border-width: 1 1 1 7;-fx-border-radius: 5";
+
+    private Event event;
 
     @FXML
     private HBox cardPane;
@@ -38,29 +43,50 @@ public class EventCard extends UiPart<Region> {
     @FXML
     private Label date;
 
+    private final String defaultStyle;
+    private final Label unvaccinatedCount = new Label();
+
+    /**
+     * Creates a {@code EventCard} that does not display any {@code Event} until {@link #setEvent} is called.
+     */
+    public EventCard() {
+        super(FXML);
+        defaultStyle = getRoot().getStyle();
+    }
 
     /**
      * Creates a {@code EventCode} with the given {@code Event} and index to display.
      */
     public EventCard(Event event, int displayedIndex) {
-        super(FXML);
+        this();
+        setEvent(event, displayedIndex);
+    }
+
+    /**
+     * Displays the given {@code Event} and index on this card in place of what it displayed before.
+     */
+    public void setEvent(Event event, int displayedIndex) {
         this.event = event;
         id.setText(displayedIndex + ". ");
         name.setText(event.getEventName().eventName);
         date.setText(EventDate.DESC + event.getEventDate().eventDate);
 
-
+        String style = defaultStyle;
+        vaccinatedContainer.getChildren().remove(unvaccinatedCount);
         if (event.hasUnvaccinatedResident()) {
-            this.getRoot().setStyle("-fx-border-color: derive(#FF0000, 70%); -fx-border-width: 1 1 1 7;"
-                    + "-fx-border-radius: 5");
-            Label textBox = new Label("Un-Vaccinated: " + event.numOfUnvaccinatedResidents());
-            vaccinatedContainer.getChildren().add(textBox);
+            style = UNVACCINATED_STYLE;
+            unvaccinatedCount.setText("Un-Vaccinated: " + event.numOfUnvaccinatedResidents());
+            vaccinatedContainer.getChildren().add(unvaccinatedCount);
         }
 
         if (event.isOver()) {
-            this.getRoot().setStyle("-fx-border-color: derive(#A9A9A9, 70%); -fx-border-width: 1 1 1 7;"
-                    + "-fx-border-radius: 5");
+            style = OVER_STYLE;
         }
+        getRoot().setStyle(style);
+    }
+
+    public Event getEvent() {
+        return event;
     }
 
     @Override
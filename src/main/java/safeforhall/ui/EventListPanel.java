@@ -38,8 +38,11 @@ public class EventListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Event} using a {@code EventCard}.
+     * The card is created once per cell and reused for every {@code Event} that the cell displays.
      */
     class EventListViewCell extends ListCell<Event> {
+        private final EventCard card = new EventCard();
+
         @Override
         protected void updateItem(Event event, boolean empty) {
             super.updateItem(event, empty);
@@ -48,7 +51,8 @@ public class EventListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new EventCard(event, getIndex() + 1).getRoot());
+                card.setEvent(event, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
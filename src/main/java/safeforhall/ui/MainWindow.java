@@ -21,7 +21,9 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import safeforhall.commons.core.GuiSettings;
 import safeforhall.commons.core.LogsCenter;
+import safeforhall.logic.CommandListener;
 import safeforhall.logic.Logic;
+import safeforhall.logic.commands.BackgroundCommand;
 import safeforhall.logic.commands.CommandResult;
 import safeforhall.logic.commands.exceptions.CommandException;
 import safeforhall.logic.parser.exceptions.ParseException;
@@ -33,6 +35,8 @@ import safeforhall.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_RUNNING = "Running command, press Esc to cancel it";
+    private static final String MESSAGE_PROGRESS = "Running command, %1$d%% done, press Esc to cancel it";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -230,11 +234,12 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(resultDisplay::setFeedbackToUser);
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        commandBox = new CommandBox(this::executeCommand);
+        commandBox = new CommandBox(this::executeCommand, this::cancelCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -319,13 +324,52 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command, whose result is shown once it is done.
      *
-     * @see Logic#execute(String, Boolean)
+     * @see Logic#executeInBackground(String, Boolean, CommandListener)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+    private void executeCommand(String commandText) throws CommandException, ParseException {
+        CommandResultHandler handler = new CommandResultHandler(commandText);
         try {
-            CommandResult commandResult = logic.execute(commandText, getIsResidentTab());
+            logic.executeInBackground(commandText, getIsResidentTab(), handler);
+        } catch (CommandException | ParseException e) {
+            logger.info("Invalid command: " + commandText);
+            resultDisplay.setFeedbackToUser(e.getMessage());
+            throw e;
+        }
+        if (!handler.isDone) {
+            resultDisplay.setFeedbackToUser(MESSAGE_RUNNING);
+        }
+    }
+
+    /**
+     * Cancels the command running in the background, if any.
+     */
+    private void cancelCommand() {
+        if (logic.cancelCommand()) {
+            resultDisplay.setFeedbackToUser(BackgroundCommand.MESSAGE_CANCELLED);
+        }
+    }
+
+    /**
+     * Shows the progress and result of a command.
+     */
+    private class CommandResultHandler implements CommandListener {
+        private final String commandText;
+        private boolean isDone;
+
+        CommandResultHandler(String commandText) {
+            this.commandText = commandText;
+        }
+
+        @Override
+        public void onProgress(int percent) {
+            resultDisplay.setFeedbackToUser(String.format(MESSAGE_PROGRESS, percent));
+        }
+
+        @Override
+        public void onSuccess(CommandResult commandResult) {
+            isDone = true;
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -340,12 +384,14 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isSwitchTab()) {
                 handleSwitch();
             }
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+        @Override
+        public void onFailure(CommandException e) {
+            isDone = true;
             logger.info("Invalid command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+            commandBox.indicateCommandFailure(commandText);
         }
     }
 }
@@ -1,14 +1,12 @@
 package safeforhall.ui;
 
-import java.util.ArrayList;
-
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import safeforhall.logic.Logic;
-import safeforhall.model.event.Event;
+import safeforhall.model.PersonSummary;
 import safeforhall.model.person.Email;
 import safeforhall.model.person.Faculty;
 import safeforhall.model.person.LastDate;
@@ -75,18 +73,13 @@ public class PersonAdditionalCard extends UiPart<Region> {
         lastFetDate.setText(LastDate.FET_DESC + person.getLastFetDate().date);
         lastCollectionDate.setText(LastDate.COLLECTION_DESC + person.getLastCollectionDate().date);
 
-        ArrayList<Event> eventList = logic.getModel().getPersonEvents(person, event -> true);
-        events.setText(EVENTS_DESC + (eventList.isEmpty() ? "None" : eventList
-                .stream()
-                .map(event -> event.getEventName().eventName)
-                .reduce("", (name, acc) -> name.equals("")
-                        ? name + acc
-                        : name + ", " + acc)));
+        PersonSummary summary = logic.getModel().getPersonSummary(person);
+        events.setText(EVENTS_DESC + summary.getEventNames());
         events.setWrapText(true);
 
-        if (person.hasMissedDeadline()) {
+        if (summary.hasMissedDeadline()) {
             Label textBox = new Label("Fet late by: ");
-            int missedDates = person.getMissedDates();
+            int missedDates = summary.getMissedDays();
             Label date;
             if (missedDates > 1) {
                 date = new Label(missedDates + " days");
@@ -24,7 +24,11 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private static final String MISSED_DEADLINE_STYLE =
+            "-fx-border-color: derive(#FF0000, 70%); -fx-border-width: 1 1 1 7;";
+    private static final Image VACCINATED_IMAGE = new Image("/images/vaccinated.png");
+
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -41,30 +45,50 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private VBox statusContainer;
 
+    private final String defaultStyle;
+    private final Rectangle vaccinatedStatus;
+
+    /**
+     * Creates a {@code PersonCard} that does not display any {@code Person} until {@link #setPerson} is called.
+     */
+    public PersonCard() {
+        super(FXML);
+        defaultStyle = getRoot().getStyle();
+        vaccinatedStatus = new Rectangle(30, 30);
+        vaccinatedStatus.setArcHeight(10);
+        vaccinatedStatus.setArcWidth(10);
+        vaccinatedStatus.setFill(new ImagePattern(VACCINATED_IMAGE));
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Displays the given {@code Person} and index on this card in place of what it displayed before.
+     */
+    public void setPerson(Person person, int displayedIndex) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         room.setText(person.getRoom().toString());
 
-        if (person.hasMissedDeadline()) {
-            this.getRoot().setStyle("-fx-border-color: derive(#FF0000, 70%); -fx-border-width: 1 1 1 7;");
-        }
+        getRoot().setStyle(person.hasMissedDeadline() ? MISSED_DEADLINE_STYLE : defaultStyle);
 
+        statusContainer.getChildren().remove(vaccinatedStatus);
         if (person.getVaccStatus().vaccinated) {
-            Image img = new Image("/images/vaccinated.png");
-            Rectangle rec = new Rectangle(30, 30);
-            rec.setArcHeight(10);
-            rec.setArcWidth(10);
-            rec.setFill(new ImagePattern(img));
-            statusContainer.getChildren().add(rec);
+            statusContainer.getChildren().add(vaccinatedStatus);
         }
     }
 
+    public Person getPerson() {
+        return person;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
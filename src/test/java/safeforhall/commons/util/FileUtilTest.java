@@ -1,13 +1,24 @@
 package safeforhall.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static safeforhall.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,26 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileDurably_writeFailsPartWay_fileKept() throws Exception {
+        Path file = testFolder.resolve("data").resolve("file.txt");
+        FileUtil.writeToFileDurably(file, out -> out.write("old".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("old", FileUtil.readFromFile(file));
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileDurably(file, out -> {
+            out.write("new".getBytes(StandardCharsets.UTF_8));
+            throw new IOException();
+        }));
+        assertEquals("old", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(1, files.count());
+        }
+
+        FileUtil.writeToFileDurably(file, out -> {
+            out.write("new".getBytes(StandardCharsets.UTF_8));
+            out.close();
+        });
+        assertEquals("new", FileUtil.readFromFile(file));
+    }
+
 }
@@ -0,0 +1,50 @@
+package safeforhall.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static safeforhall.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class IdAllocatorTest {
+
+    private static final int MAX_ID = 5;
+
+    @Test
+    public void constructor_invalidBound_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new IdAllocator(0));
+    }
+
+    @Test
+    public void take_idOutOfBounds_throwsIllegalArgumentException() {
+        IdAllocator allocator = new IdAllocator(MAX_ID);
+        assertThrows(IllegalArgumentException.class, () -> allocator.take(0));
+        assertThrows(IllegalArgumentException.class, () -> allocator.take(MAX_ID + 1));
+    }
+
+    @Test
+    public void allocate_belowBound_returnsIdAfterLargestTaken() {
+        IdAllocator allocator = new IdAllocator(MAX_ID);
+        assertEquals(1, allocator.allocate(id -> false));
+        allocator.take(3);
+        assertEquals(4, allocator.allocate(id -> false));
+
+        // smaller ids taken later do not move the ids handed out back
+        allocator.take(2);
+        assertEquals(5, allocator.allocate(id -> false));
+    }
+
+    @Test
+    public void allocate_boundReached_returnsSmallestIdNotInUse() {
+        IdAllocator allocator = new IdAllocator(MAX_ID);
+        allocator.take(MAX_ID);
+        Set<Integer> inUse = new HashSet<>(Arrays.asList(1, 2, 4, MAX_ID));
+        assertEquals(3, allocator.allocate(inUse::contains));
+
+        inUse.add(3);
+        assertThrows(IllegalStateException.class, () -> allocator.allocate(inUse::contains));
+    }
+}
@@ -0,0 +1,40 @@
+package safeforhall.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static safeforhall.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private static final int MAX_COLLECTIONS = 50;
+
+    @Test
+    public void intern_sameKey_returnsSameInstance() {
+        Interner<String, StringBuilder> interner = new Interner<>();
+        StringBuilder shared = interner.intern("a", () -> new StringBuilder("a"));
+        assertSame(shared, interner.intern("a", () -> new StringBuilder("a")));
+        assertNotSame(shared, interner.intern("b", () -> new StringBuilder("b")));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_nullKeyOrInstance_throwsNullPointerException() {
+        Interner<String, StringBuilder> interner = new Interner<>();
+        assertThrows(NullPointerException.class, () -> interner.intern(null, StringBuilder::new));
+        assertThrows(NullPointerException.class, () -> interner.intern("a", () -> null));
+    }
+
+    @Test
+    public void intern_instanceNoLongerUsed_dropped() throws InterruptedException {
+        Interner<String, StringBuilder> interner = new Interner<>();
+        interner.intern("a", () -> new StringBuilder("a"));
+        for (int i = 0; i < MAX_COLLECTIONS && interner.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(0, interner.size());
+    }
+}
@@ -1,6 +1,7 @@
 package safeforhall.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static safeforhall.logic.commands.CommandTestUtil.COLLECTION_DESC_AMY;
 import static safeforhall.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static safeforhall.logic.commands.CommandTestUtil.FACULTY_DESC_AMY;
@@ -13,6 +14,8 @@ import static safeforhall.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,6 +24,7 @@ import org.junit.jupiter.api.io.TempDir;
 import safeforhall.commons.core.Messages;
 import safeforhall.logic.commands.CommandResult;
 import safeforhall.logic.commands.DeadlineCommand;
+import safeforhall.logic.commands.TraceCommand;
 import safeforhall.logic.commands.add.AddPersonCommand;
 import safeforhall.logic.commands.exceptions.CommandException;
 import safeforhall.logic.commands.view.ViewEventCommand;
@@ -39,6 +43,7 @@ import safeforhall.testutil.TypicalPersons;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+    private static final long TIMEOUT_SECONDS = 10;
 
     @TempDir
     public Path temporaryFolder;
@@ -52,7 +57,7 @@ public class LogicManagerTest {
                 new JsonAddressBookStorage(temporaryFolder.resolve("safeforhall.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Runnable::run);
     }
 
     @Test
@@ -102,14 +107,16 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
+    public void execute_storageThrowsIoException_failureGivenToSaveFailureHandler() throws Exception {
         // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Runnable::run);
+        CompletableFuture<String> saveFailure = new CompletableFuture<>();
+        logic.setSaveFailureHandler(saveFailure::complete);
 
         // Execute add command
         String addCommand = AddPersonCommand.COMMAND_WORD + NAME_DESC_AMY + ROOM_DESC_AMY + PHONE_DESC_AMY
@@ -118,7 +125,57 @@ public class LogicManagerTest {
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
         String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel, true);
+
+        // data is saved in the background, so the failure is given to the handler once the save fails
+        assertCommandSuccess(addCommand, String.format(AddPersonCommand.MESSAGE_SUCCESS, expectedPerson),
+                expectedModel, true);
+        assertEquals(expectedMessage, saveFailure.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // the unsaved changes are saved again when flushed, and following commands are unaffected
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), () -> logic.flushAddressBook());
+        assertCommandSuccess(ViewPersonCommand.COMMAND_WORD, ViewPersonCommand.MESSAGE_ALL_RESIDENTS_SHOWN,
+                expectedModel, true);
+    }
+
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage), Runnable::run);
+
+        assertCommandSuccess(ViewPersonCommand.COMMAND_WORD, ViewPersonCommand.MESSAGE_ALL_RESIDENTS_SHOWN,
+                model, true);
+        logic.flushAddressBook();
+    }
+
+    @Test
+    public void executeInBackground_otherCommand_resultGivenBeforeReturning() throws Exception {
+        RecordingListener listener = new RecordingListener();
+        logic.getSinglePerson();
+        logic.executeInBackground(ViewPersonCommand.COMMAND_WORD, true, listener);
+        assertEquals(ViewPersonCommand.MESSAGE_ALL_RESIDENTS_SHOWN,
+                listener.result.getNow(null).getFeedbackToUser());
+    }
+
+    @Test
+    public void executeInBackground_backgroundCommandFails_failureGivenToListener() throws Exception {
+        RecordingListener listener = new RecordingListener();
+        logic.executeInBackground(TraceCommand.COMMAND_WORD + " r/A100", true, listener);
+        assertEquals("No resident with this information 'A100' could be found",
+                listener.failure.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).getMessage());
+
+        // the next command can run once the previous one is done
+        RecordingListener nextListener = new RecordingListener();
+        logic.executeInBackground(ViewPersonCommand.COMMAND_WORD, true, nextListener);
+        assertEquals(ViewPersonCommand.MESSAGE_ALL_RESIDENTS_SHOWN,
+                nextListener.result.getNow(null).getFeedbackToUser());
+    }
+
+    @Test
+    public void cancelCommand_noCommandRunning_returnsFalse() {
+        assertFalse(logic.cancelCommand());
     }
 
     @Test
@@ -184,6 +241,27 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * A listener that records the result or failure of a command.
+     */
+    private static class RecordingListener implements CommandListener {
+        private final CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        private final CompletableFuture<CommandException> failure = new CompletableFuture<>();
+
+        @Override
+        public void onProgress(int percent) {}
+
+        @Override
+        public void onSuccess(CommandResult commandResult) {
+            result.complete(commandResult);
+        }
+
+        @Override
+        public void onFailure(CommandException e) {
+            failure.complete(e);
+        }
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
@@ -0,0 +1,68 @@
+package safeforhall.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static safeforhall.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static safeforhall.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import safeforhall.model.Model;
+import safeforhall.model.ModelManager;
+import safeforhall.model.UserPrefs;
+import safeforhall.model.person.AttributeFilter;
+import safeforhall.model.person.Faculty;
+import safeforhall.model.person.VaccStatus;
+import safeforhall.testutil.TypicalPersons;
+
+public class CountCommandTest {
+    private Model model = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullFilter_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CountCommand(null));
+    }
+
+    @Test
+    public void equals() {
+        CountCommand firstCommand = new CountCommand(new AttributeFilter(new VaccStatus("F"), null, "A"));
+        CountCommand secondCommand = new CountCommand(new AttributeFilter(null, new Faculty("SoC"), null));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new CountCommand(new AttributeFilter(new VaccStatus("F"), null, "a"))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different filter -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_unvaccinatedInBlock_countedWithoutChangingList() {
+        model.updateFilteredPersonList(person -> person.equals(TypicalPersons.ALICE));
+        expectedModel.updateFilteredPersonList(person -> person.equals(TypicalPersons.ALICE));
+        CountCommand command = new CountCommand(new AttributeFilter(new VaccStatus("F"), null, "A1"));
+        assertCommandSuccess(command, model, String.format(CountCommand.MESSAGE_SUCCESS, 3), expectedModel);
+    }
+
+    @Test
+    public void execute_noneMatching_zeroCounted() {
+        CountCommand command = new CountCommand(new AttributeFilter(null, new Faculty("FASS"), null));
+        assertCommandSuccess(command, model, String.format(CountCommand.MESSAGE_SUCCESS, 0), expectedModel);
+    }
+
+    @Test
+    public void execute_nothingFiltered_allCounted() {
+        CountCommand command = new CountCommand(new AttributeFilter(null, null, null));
+        assertCommandSuccess(command, model, String.format(CountCommand.MESSAGE_SUCCESS,
+                TypicalPersons.getTypicalPersons().size()), expectedModel);
+    }
+}
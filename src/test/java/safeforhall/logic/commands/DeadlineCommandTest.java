@@ -11,6 +11,7 @@ import static safeforhall.testutil.TypicalPersons.FIONA;
 import static safeforhall.testutil.TypicalPersons.GEORGE;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -23,6 +24,7 @@ import safeforhall.model.person.LastDate;
 import safeforhall.model.person.NameMissedDeadlinePredicate;
 import safeforhall.model.person.NameNearLastDatePredicate;
 import safeforhall.model.person.Person;
+import safeforhall.testutil.PersonBuilder;
 import safeforhall.testutil.TypicalPersons;
 
 /**
@@ -153,4 +155,18 @@ public class DeadlineCommandTest {
         validPeople.add(GEORGE);
         assertEquals(validPeople, expectedModel.getFilteredPersonList());
     }
+
+    @Test
+    public void execute_personEditedAfterwards_personListedIfDue() {
+        NameNearLastDatePredicate predicate = new NameNearLastDatePredicate("c", new LastDate("10-10-2021"),
+                new LastDate("15-10-2021"));
+        DeadlineCommand command = new DeadlineCommand("c", new LastDate("10-10-2021"), new LastDate("15-10-2021"));
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, DeadlineCommand.MESSAGE_SUCCESS_ART, expectedModel);
+
+        // the list is still filtered on the deadline once the command is done
+        Person editedGeorge = new PersonBuilder(GEORGE).withCollection("06-10-2021").build();
+        model.setPerson(GEORGE, editedGeorge);
+        assertEquals(Arrays.asList(ALICE, CARL, FIONA, editedGeorge), model.getFilteredPersonList());
+    }
 }
@@ -66,7 +66,9 @@ public class TraceCommandTest {
 
     @Test
     public void execute_depthCheck_success() throws CommandException {
-        String expectedMessage = String.format(TraceCommand.MESSAGE_FOUND_CONTACTS, 4);
+        String expectedMessage = String.format(TraceCommand.MESSAGE_FOUND_CONTACTS, 4)
+                + String.format(TraceCommand.MESSAGE_CONTACTS_AT_DEPTH, 1, "Carl Kurz, Benson Meier, Elle Meyer, "
+                        + "Fiona Kunz");
         TraceCommand command = new TraceCommand(TypicalPersons.GEORGE.getRoom().toString(), 2, 1000);
         expectedModel.updateFilteredPersonList(p -> p.equals(TypicalPersons.BENSON)
                 || p.equals(TypicalPersons.CARL)
@@ -9,8 +9,10 @@ import static safeforhall.testutil.Assert.assertThrows;
 import static safeforhall.testutil.TypicalEvents.getTypicalAddressBook;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,13 +23,17 @@ import safeforhall.logic.commands.exceptions.CommandException;
 import safeforhall.model.AddressBook;
 import safeforhall.model.Model;
 import safeforhall.model.ModelManager;
+import safeforhall.model.PersonQuery;
+import safeforhall.model.PersonSummary;
 import safeforhall.model.ReadOnlyAddressBook;
 import safeforhall.model.ReadOnlyUserPrefs;
 import safeforhall.model.UserPrefs;
 import safeforhall.model.event.Event;
 import safeforhall.model.event.EventName;
 import safeforhall.model.event.ResidentList;
+import safeforhall.model.person.AttributeFilter;
 import safeforhall.model.person.Person;
+import safeforhall.model.person.RoomRange;
 import safeforhall.testutil.EventBuilder;
 import safeforhall.testutil.PersonBuilder;
 import safeforhall.testutil.TypicalPersons;
@@ -255,6 +261,11 @@ public class AddEventCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonListByQuery(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredEventList(Predicate<Event> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -285,6 +296,46 @@ public class AddEventCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PersonSummary getPersonSummary(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsDueBetween(String keyword, LocalDate start, LocalDate end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsDueBefore(String keyword, LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsInRooms(List<RoomRange> ranges) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByNameWords(List<String> words) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> searchPersonsByName(String word) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsMatching(AttributeFilter filter) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countPersonsMatching(AttributeFilter filter) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getSinglePerson() {
             throw new AssertionError("This method should not be called.");
@@ -314,6 +365,11 @@ public class AddEventCommandTest {
         public void setNoEvent() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<Event> getEventsBetween(LocalDate start, LocalDate end) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
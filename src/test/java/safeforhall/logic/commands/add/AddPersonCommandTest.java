@@ -7,9 +7,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static safeforhall.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,12 +22,16 @@ import safeforhall.logic.commands.CommandResult;
 import safeforhall.logic.commands.exceptions.CommandException;
 import safeforhall.model.AddressBook;
 import safeforhall.model.Model;
+import safeforhall.model.PersonQuery;
+import safeforhall.model.PersonSummary;
 import safeforhall.model.ReadOnlyAddressBook;
 import safeforhall.model.ReadOnlyUserPrefs;
 import safeforhall.model.event.Event;
 import safeforhall.model.event.EventName;
 import safeforhall.model.event.ResidentList;
+import safeforhall.model.person.AttributeFilter;
 import safeforhall.model.person.Person;
+import safeforhall.model.person.RoomRange;
 import safeforhall.testutil.PersonBuilder;
 
 public class AddPersonCommandTest {
@@ -204,6 +210,11 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonListByQuery(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredEventList(Predicate<Event> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -234,6 +245,46 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PersonSummary getPersonSummary(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsDueBetween(String keyword, LocalDate start, LocalDate end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsDueBefore(String keyword, LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsInRooms(List<RoomRange> ranges) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByNameWords(List<String> words) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> searchPersonsByName(String word) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsMatching(AttributeFilter filter) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countPersonsMatching(AttributeFilter filter) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getSinglePerson() {
             throw new AssertionError("This method should not be called.");
@@ -263,6 +314,11 @@ public class AddPersonCommandTest {
         public void setNoEvent() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<Event> getEventsBetween(LocalDate start, LocalDate end) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
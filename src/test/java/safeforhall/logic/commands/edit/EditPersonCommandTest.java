@@ -1,5 +1,6 @@
 package safeforhall.logic.commands.edit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static safeforhall.logic.commands.CommandTestUtil.DESC_AMY;
@@ -80,6 +81,20 @@ public class EditPersonCommandTest {
         assertCommandSuccess(editPersonCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_someFieldsSpecified_keepsId() throws Exception {
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        ArrayList<Index> indexArray = new ArrayList<>();
+        indexArray.add(INDEX_FIRST_PERSON);
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withPhone(VALID_PHONE_BOB).build();
+
+        new EditPersonCommand(indexArray, descriptor).execute(model);
+
+        Person editedPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        assertEquals(VALID_PHONE_BOB, editedPerson.getPhone().value);
+        assertEquals(firstPerson.getId(), editedPerson.getId());
+    }
+
     @Test
     public void execute_noFieldSpecifiedUnfilteredList_success() {
         ArrayList<Index> indexArray = new ArrayList<>();
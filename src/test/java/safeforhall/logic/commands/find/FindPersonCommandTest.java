@@ -19,8 +19,10 @@ import safeforhall.model.UserPrefs;
 import safeforhall.model.person.Email;
 import safeforhall.model.person.Faculty;
 import safeforhall.model.person.Name;
+import safeforhall.model.person.Person;
 import safeforhall.model.person.Phone;
 import safeforhall.model.person.VaccStatus;
+import safeforhall.testutil.PersonBuilder;
 import safeforhall.testutil.TypicalPersons;
 
 /**
@@ -81,6 +83,36 @@ public class FindPersonCommandTest {
                 model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_personsEditedAfterwards_personsListedIfMatching() {
+        FindCompositePredicate predicate = preparePredicate("Kurz Elle Kunz", null, null, null, null, null);
+        new FindPersonCommand(predicate).execute(model);
+
+        // the list is still filtered on the predicate once the command is done
+        Person editedCarl = new PersonBuilder(TypicalPersons.CARL).withPhone("81234567").build();
+        Person editedGeorge = new PersonBuilder(TypicalPersons.GEORGE).withName("George Kurz").build();
+        model.setPerson(TypicalPersons.CARL, editedCarl);
+        model.setPerson(TypicalPersons.GEORGE, editedGeorge);
+        assertEquals(Arrays.asList(editedCarl, TypicalPersons.ELLE, TypicalPersons.FIONA, editedGeorge),
+                model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_misspeltName_similarNamesListed() {
+        FindCompositePredicate predicate = preparePredicate("Kurtz", null, null, null, null, null);
+        FindPersonCommand command = new FindPersonCommand(predicate);
+        String expectedMessage = String.format(FindPersonCommand.MESSAGE_SIMILAR_NAMES_LISTED, 1,
+                TypicalPersons.CARL.getName());
+        expectedModel.updateFilteredPersonList(TypicalPersons.CARL::equals);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+
+        // persons with similar names must still match every other field
+        predicate = preparePredicate("Kurtz", null, null, null, "T", null);
+        expectedModel.updateFilteredPersonList(person -> false);
+        assertCommandSuccess(new FindPersonCommand(predicate), model,
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 0), expectedModel);
+    }
+
     @Test
     public void execute_multiplePredicates_multiplePersonsFound() {
         String expectedMessage = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
@@ -160,6 +192,51 @@ public class FindPersonCommandTest {
                 model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_fullRoom_onePersonFound() {
+        String expectedMessage = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        FindCompositePredicate predicate = preparePredicate(null, "a102", null, null, "F", "soc");
+        FindPersonCommand command = new FindPersonCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(TypicalPersons.CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fullRoomOtherFieldsNotMatched_noPersonFound() {
+        String expectedMessage = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        FindCompositePredicate predicate = preparePredicate("alice", "a102", null, null, null, null);
+        FindPersonCommand command = new FindPersonCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void test_fieldSetAfterTest_usesNewField() {
+        FindCompositePredicate predicate = new FindCompositePredicate();
+        assertTrue(predicate.test(TypicalPersons.ALICE));
+
+        predicate.setVaccStatus(new VaccStatus("F"));
+        assertFalse(predicate.test(TypicalPersons.ALICE));
+        assertTrue(predicate.test(TypicalPersons.CARL));
+
+        predicate.setName(new Name("Elle"));
+        assertFalse(predicate.test(TypicalPersons.CARL));
+        assertTrue(predicate.test(TypicalPersons.ELLE));
+    }
+
+    @Test
+    public void execute_roomRange_multiplePersonsFound() {
+        String expectedMessage = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FindCompositePredicate predicate = preparePredicate(null, "a101-A103", null, null, null, null);
+        FindPersonCommand command = new FindPersonCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(TypicalPersons.BENSON, TypicalPersons.CARL, TypicalPersons.DANIEL),
+                model.getFilteredPersonList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code FindCompositePredicate}.
      */
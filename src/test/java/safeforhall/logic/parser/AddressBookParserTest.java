@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 
 import safeforhall.commons.core.index.Index;
 import safeforhall.logic.commands.ClearCommand;
+import safeforhall.logic.commands.CountCommand;
 import safeforhall.logic.commands.DeadlineCommand;
 import safeforhall.logic.commands.ExcludeCommand;
 import safeforhall.logic.commands.ExitCommand;
@@ -40,6 +41,7 @@ import safeforhall.logic.commands.view.ViewPersonCommand;
 import safeforhall.logic.parser.exceptions.ParseException;
 import safeforhall.model.event.EventName;
 import safeforhall.model.event.ResidentList;
+import safeforhall.model.person.AttributeFilter;
 import safeforhall.model.person.LastDate;
 import safeforhall.model.person.Name;
 import safeforhall.model.person.Person;
@@ -130,6 +132,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3", true) instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_count() throws Exception {
+        CountCommand command = (CountCommand) parser.parseCommand(CountCommand.COMMAND_WORD + " r/C v/F", true);
+        assertEquals(new CountCommand(new AttributeFilter(new VaccStatus("F"), null, "C")), command);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         DeadlineCommand command = (DeadlineCommand) parser.parseCommand(
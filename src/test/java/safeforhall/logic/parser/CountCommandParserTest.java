@@ -0,0 +1,38 @@
+package safeforhall.logic.parser;
+
+import static safeforhall.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static safeforhall.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static safeforhall.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import safeforhall.logic.commands.CountCommand;
+import safeforhall.model.person.AttributeFilter;
+import safeforhall.model.person.Faculty;
+import safeforhall.model.person.VaccStatus;
+
+public class CountCommandParserTest {
+
+    private CountCommandParser parser = new CountCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsCountCommand() {
+        assertParseSuccess(parser, "  ", new CountCommand(new AttributeFilter(null, null, null)));
+        assertParseSuccess(parser, " r/C v/F",
+                new CountCommand(new AttributeFilter(new VaccStatus("F"), null, "C")));
+        assertParseSuccess(parser, " f/soc r/2",
+                new CountCommand(new AttributeFilter(null, new Faculty("SoC"), "2")));
+        assertParseSuccess(parser, " r/b3 v/T f/FASS",
+                new CountCommand(new AttributeFilter(new VaccStatus("T"), new Faculty("FASS"), "B3")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "C", String.format(MESSAGE_INVALID_COMMAND_FORMAT, CountCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " r/A100", CountCommand.MESSAGE_INVALID_ROOM);
+        assertParseFailure(parser, " r/A100-A129", CountCommand.MESSAGE_INVALID_ROOM);
+        assertParseFailure(parser, " r/F", CountCommand.MESSAGE_INVALID_ROOM);
+        assertParseFailure(parser, " v/maybe", VaccStatus.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " f/S0C", Faculty.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,47 @@
+package safeforhall.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static safeforhall.testutil.Assert.assertThrows;
+import static safeforhall.testutil.TypicalPersons.ALICE;
+import static safeforhall.testutil.TypicalPersons.HOON;
+import static safeforhall.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookSnapshot(null));
+    }
+
+    @Test
+    public void constructor_sourceChangedAfterwards_keepsContentsWhenTaken() {
+        AddressBook source = getTypicalAddressBook();
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(source);
+        AddressBook expected = new AddressBook(source);
+
+        source.removePerson(ALICE);
+        source.addPerson(HOON);
+        assertEquals(expected, new AddressBook(snapshot));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void getChangesSince_changesBeforeSnapshot_returnsChangesSinceGivenVersion() {
+        AddressBook source = getTypicalAddressBook();
+        long version = source.getVersion();
+        source.removePerson(ALICE);
+
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(source, version);
+        source.addPerson(HOON);
+        assertEquals(1, snapshot.getChangesSince(version).get().size());
+        assertEquals(Collections.emptyList(), snapshot.getChangesSince(snapshot.getVersion()).get());
+
+        // changes from before the version given are not known
+        assertFalse(new AddressBookSnapshot(source).getChangesSince(version).isPresent());
+    }
+}
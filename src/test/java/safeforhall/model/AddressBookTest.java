@@ -121,6 +121,70 @@ public class AddressBookTest {
         assertThrows(CommandException.class, () -> addressBook.findPerson("T12"));
     }
 
+    @Test
+    public void findPersons_roomRange_returnsPersonsInRoomOrder() throws CommandException {
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(ALICE);
+        assertEquals(Arrays.asList(ALICE, BENSON), addressBook.findPersons("A100-A129"));
+        assertEquals(Collections.singletonList(BENSON), addressBook.findPersons("a101-a101"));
+        assertEquals(Collections.singletonList(ALICE), addressBook.findPersons("Alice Pauline"));
+        assertEquals(Collections.emptyList(), addressBook.findPersons("B100-E429"));
+        assertThrows(CommandException.class, () -> addressBook.findPersons("A129-A100"));
+    }
+
+    @Test
+    public void getVersion_changesOnlyWhenContentsChange() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() != version);
+
+        // read-only operations do not change the version
+        version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonEvents(ALICE);
+        assertEquals(version, addressBook.getVersion());
+
+        // failed operations do not change the version
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.addEvent(BASKETBALL);
+        assertTrue(addressBook.getVersion() != version);
+    }
+
+    @Test
+    public void getChangesSince_singleChanges_returnsChangesInOrder() {
+        addressBook.setPersons(Arrays.asList(ALICE, BENSON));
+        long version = addressBook.getVersion();
+        assertEquals(Collections.emptyList(), addressBook.getChangesSince(version).get());
+
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        addressBook.setPerson(BENSON, editedBenson);
+        addressBook.removePerson(ALICE);
+        long afterRemove = addressBook.getVersion();
+        addressBook.addEvent(BASKETBALL);
+
+        List<AddressBookChange> changes = addressBook.getChangesSince(version).get();
+        assertEquals(3, changes.size());
+        assertEquals(AddressBookChange.Type.SET_PERSON, changes.get(0).getType());
+        assertEquals(1, changes.get(0).getIndex());
+        assertEquals(editedBenson, changes.get(0).getPerson());
+        assertEquals(AddressBookChange.Type.REMOVE_PERSON, changes.get(1).getType());
+        assertEquals(0, changes.get(1).getIndex());
+        assertEquals(AddressBookChange.Type.ADD_EVENT, changes.get(2).getType());
+        assertEquals(BASKETBALL, changes.get(2).getEvent());
+
+        assertEquals(1, addressBook.getChangesSince(afterRemove).get().size());
+
+        // replacing a whole list starts a new change log
+        addressBook.setEvents(Collections.emptyList());
+        assertFalse(addressBook.getChangesSince(version).isPresent());
+        assertFalse(addressBook.getChangesSince(afterRemove).isPresent());
+
+        // versions of other address books are not known
+        assertFalse(addressBook.getChangesSince(new AddressBook().getVersion()).isPresent());
+    }
+
     @Test
     public void checkHashCode() {
         try {
@@ -150,6 +214,11 @@ public class AddressBookTest {
         public ObservableList<Event> getEventList() {
             return events;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
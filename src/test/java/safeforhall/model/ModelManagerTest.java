@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static safeforhall.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static safeforhall.testutil.Assert.assertThrows;
+import static safeforhall.testutil.TypicalEvents.BAND;
 import static safeforhall.testutil.TypicalEvents.BASKETBALL;
 import static safeforhall.testutil.TypicalEvents.VOLLEYBALL;
 import static safeforhall.testutil.TypicalPersons.ALICE;
@@ -28,6 +29,7 @@ import safeforhall.model.person.NameContainsKeywordsPredicate;
 import safeforhall.model.person.Person;
 import safeforhall.testutil.AddressBookBuilder;
 import safeforhall.testutil.EventBuilder;
+import safeforhall.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -298,4 +300,56 @@ public class ModelManagerTest {
         String result = modelManager.getInvalidResident(event);
         assertEquals(result, "John");
     }
+
+    @Test
+    public void updateFilteredPersonListByQuery_personsChanged_queryFoundAgain() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.updateFilteredPersonListByQuery(model -> model.findPersonsByNameWords(Arrays.asList("Alice")));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").withId(ALICE.getId()).build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(editedAlice);
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+
+        // filtering by a predicate replaces the query
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.setPerson(BENSON, new PersonBuilder(BENSON).withId(BENSON.getId()).build());
+        assertEquals(1, modelManager.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void updateFilteredPersonListByQuery_nullQuery_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.updateFilteredPersonListByQuery(null));
+    }
+
+    @Test
+    public void getPersonSummary_eventsChanged_summaryUpdated() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(BENSON).withPerson(CARL)
+                .withEvent(BAND).withEvent(BASKETBALL).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        PersonSummary summary = modelManager.getPersonSummary(BENSON);
+        assertEquals(BAND.getEventName().eventName, summary.getEventNames());
+        assertEquals(BENSON.getMissedDates(), summary.getMissedDays());
+
+        // only shown events are summarised
+        modelManager.updateFilteredEventList(event -> !event.equals(BAND));
+        assertEquals(PersonSummary.NO_EVENTS, modelManager.getPersonSummary(BENSON).getEventNames());
+        modelManager.updateFilteredEventList(Model.PREDICATE_SHOW_ALL_EVENTS);
+        assertEquals(BAND.getEventName().eventName, modelManager.getPersonSummary(BENSON).getEventNames());
+
+        modelManager.deleteEvent(BAND);
+        assertEquals(PersonSummary.NO_EVENTS, modelManager.getPersonSummary(BENSON).getEventNames());
+        modelManager.addEvent(BAND);
+        assertEquals(BAND.getEventName().eventName, modelManager.getPersonSummary(BENSON).getEventNames());
+    }
+
+    @Test
+    public void getPersonSummary_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.getPersonSummary(null));
+    }
 }
@@ -0,0 +1,55 @@
+package safeforhall.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static safeforhall.testutil.Assert.assertThrows;
+import static safeforhall.testutil.TypicalEvents.BAND;
+import static safeforhall.testutil.TypicalEvents.DANCE;
+import static safeforhall.testutil.TypicalEvents.POWERLIFTING;
+import static safeforhall.testutil.TypicalEvents.VOLLEYBALL;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import safeforhall.model.person.Person;
+import safeforhall.testutil.TypicalPersons;
+
+public class ContactGraphTest {
+
+    private final ContactGraph graph = new ContactGraph(Arrays.asList(POWERLIFTING, DANCE, BAND, VOLLEYBALL));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ContactGraph(null));
+    }
+
+    @Test
+    public void trace_depthOne_returnsDirectContacts() {
+        Map<Person, Integer> expected = new LinkedHashMap<>();
+        expected.put(TypicalPersons.FIONA, 1);
+        expected.put(TypicalPersons.GEORGE, 1);
+        assertEquals(expected, graph.trace(TypicalPersons.ELLE, 1));
+    }
+
+    @Test
+    public void trace_depthTwo_returnsContactsWithDepthReached() {
+        Map<Person, Integer> expected = new LinkedHashMap<>();
+        expected.put(TypicalPersons.FIONA, 1);
+        expected.put(TypicalPersons.GEORGE, 1);
+        expected.put(TypicalPersons.CARL, 2);
+        expected.put(TypicalPersons.BENSON, 2);
+        assertEquals(expected, graph.trace(TypicalPersons.ELLE, 2));
+
+        // no further contacts to be found
+        assertEquals(expected, graph.trace(TypicalPersons.ELLE, 5));
+    }
+
+    @Test
+    public void trace_residentWithoutEvents_returnsEmptyMap() {
+        assertTrue(graph.trace(TypicalPersons.ALICE, 3).isEmpty());
+        assertTrue(graph.trace(TypicalPersons.DANIEL, 3).isEmpty());
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static safeforhall.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 public class EventDateTest {
@@ -46,4 +48,10 @@ public class EventDateTest {
         assertEquals(e2.compareTo(e1), 2);
         assertEquals(e3.compareTo(e1), 0);
     }
+
+    @Test
+    public void toLocalDate() {
+        assertEquals(LocalDate.of(2021, 10, 21), new EventDate("21.10.2021").toLocalDate());
+        assertEquals(LocalDate.of(2021, 10, 21).toEpochDay(), new EventDate("21/10/2021").toEpochDay());
+    }
 }
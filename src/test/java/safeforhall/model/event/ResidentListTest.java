@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static safeforhall.testutil.Assert.assertThrows;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
@@ -33,6 +34,9 @@ public class ResidentListTest {
         assertFalse(ResidentList.isValidResidentList("")); // empty string
         assertFalse(ResidentList.isValidResidentList(" ")); // spaces only
         assertFalse(ResidentList.isValidResidentList("a213 b423")); // no comma between information
+        assertFalse(ResidentList.isValidResidentList("a213, peter jack")); // room then name
+        assertFalse(ResidentList.isValidResidentList("peter jack, a213")); // name then room
+        assertFalse(ResidentList.isValidResidentList("a213, f100")); // invalid room after a valid room
 
         // valid residentList
         assertTrue(ResidentList.isValidResidentList(ResidentList.DEFAULT_LIST)); // default no residents string
@@ -56,6 +60,25 @@ public class ResidentListTest {
         ResidentList residentList = new ResidentList(ResidentList.DEFAULT_LIST);
 
         assertEquals(0, residentList.numOfUnvaccinatedResidents());
+
+        // CARL is not vaccinated
+        ArrayList<Person> residents = new ArrayList<>();
+        residents.add(TypicalPersons.ALICE);
+        residents.add(TypicalPersons.CARL);
+        ResidentList withCarl = ResidentList.fromResidents(residents);
+        assertEquals(1, withCarl.numOfUnvaccinatedResidents());
+        assertTrue(withCarl.hasUnvaccinatedResident());
+
+        ArrayList<Person> carl = new ArrayList<>();
+        carl.add(TypicalPersons.CARL);
+        assertEquals(0, withCarl.withResidentsRemoved(carl).numOfUnvaccinatedResidents());
+        // CARL is only added once
+        assertEquals(1, withCarl.withResidentsAdded(carl).numOfUnvaccinatedResidents());
+
+        // GEORGE is not vaccinated
+        ArrayList<Person> george = new ArrayList<>();
+        george.add(TypicalPersons.GEORGE);
+        assertEquals(2, withCarl.withResidentsAdded(george).numOfUnvaccinatedResidents());
     }
 
     @Test
@@ -101,19 +124,19 @@ public class ResidentListTest {
     }
 
     @Test
-    public void getCombinedStorageStringTest() {
+    public void withResidentsAdded_storageString() {
         ResidentList residentList = new ResidentList(ResidentList.DEFAULT_LIST);
         ArrayList<Person> toAdd = new ArrayList<>();
         toAdd.add(TypicalPersons.ALICE);
 
         // empty current, one person in toAdd
-        String combinedString = residentList.getCombinedStorageString(toAdd);
+        String combinedString = residentList.withResidentsAdded(toAdd).getResidentsStorage();
         assertEquals(combinedString, TypicalPersons.ALICE.toString());
 
         // empty current, multiple persons in toAdd
         toAdd.add(TypicalPersons.BOB);
         toAdd.add(TypicalPersons.CARL);
-        combinedString = residentList.getCombinedStorageString(toAdd);
+        combinedString = residentList.withResidentsAdded(toAdd).getResidentsStorage();
         String expectedString = TypicalPersons.ALICE.toString()
                 + ", "
                 + TypicalPersons.BOB.toString()
@@ -123,7 +146,7 @@ public class ResidentListTest {
 
         // current not empty
         residentList = new ResidentList(TypicalPersons.ELLE.getName().toString(), TypicalPersons.ELLE.toString());
-        combinedString = residentList.getCombinedStorageString(toAdd);
+        combinedString = residentList.withResidentsAdded(toAdd).getResidentsStorage();
         expectedString = TypicalPersons.ELLE.toString()
                 + ", "
                 + TypicalPersons.ALICE.toString()
@@ -135,23 +158,23 @@ public class ResidentListTest {
     }
 
     @Test
-    public void getCombinedDisplayStringTest() {
+    public void withResidentsAdded_displayString() {
         ResidentList residentList = new ResidentList(ResidentList.DEFAULT_LIST);
         ArrayList<Person> toAdd = new ArrayList<>();
 
         // empty current, no one added
-        String combinedString = residentList.getCombinedDisplayString(toAdd);
+        String combinedString = residentList.withResidentsAdded(toAdd).getResidentsDisplay();
         assertEquals(combinedString, ResidentList.DEFAULT_LIST);
 
         // empty current, one person in toAdd
         toAdd.add(TypicalPersons.ALICE);
-        combinedString = residentList.getCombinedDisplayString(toAdd);
+        combinedString = residentList.withResidentsAdded(toAdd).getResidentsDisplay();
         assertEquals(combinedString, TypicalPersons.ALICE.getName().toString());
 
         // empty current, multiple persons in toAdd
         toAdd.add(TypicalPersons.BOB);
         toAdd.add(TypicalPersons.CARL);
-        combinedString = residentList.getCombinedDisplayString(toAdd);
+        combinedString = residentList.withResidentsAdded(toAdd).getResidentsDisplay();
         String expectedString = TypicalPersons.ALICE.getName().toString()
                 + ", "
                 + TypicalPersons.BOB.getName().toString()
@@ -161,7 +184,7 @@ public class ResidentListTest {
 
         // current not empty
         residentList = new ResidentList(TypicalPersons.ELLE.getName().toString(), TypicalPersons.ELLE.toString());
-        combinedString = residentList.getCombinedDisplayString(toAdd);
+        combinedString = residentList.withResidentsAdded(toAdd).getResidentsDisplay();
         expectedString = TypicalPersons.ELLE.getName().toString()
                 + ", "
                 + TypicalPersons.ALICE.getName().toString()
@@ -173,40 +196,25 @@ public class ResidentListTest {
     }
 
     @Test
-    public void getRemovedStorageStringTest() {
-        ResidentList residentList = new ResidentList(TypicalPersons.ALICE.getName().toString(),
-                TypicalPersons.ALICE.toString());
+    public void withResidentsRemoved_storageString() {
+        // residents are removed by id, so the lists hold the persons being removed rather than copies of them
+        ResidentList residentList = ResidentList.fromResidents(Arrays.asList(TypicalPersons.ALICE));
         ArrayList<Person> toRemove = new ArrayList<>();
         toRemove.add(TypicalPersons.ALICE);
 
         // one resident in current, remove one of them
-        String combinedString = residentList.getRemovedStorageString(toRemove);
+        String combinedString = residentList.withResidentsRemoved(toRemove).getResidentsStorage();
         assertEquals(combinedString, ResidentList.DEFAULT_LIST);
 
         // two residents in current, remove one of them
-        String constructorString1 = TypicalPersons.ALICE.getName().toString()
-                + ", "
-                + TypicalPersons.BOB.getName().toString();
-        String constructorString2 = TypicalPersons.ALICE.toString()
-                + ", "
-                + TypicalPersons.BOB.toString();
-        residentList = new ResidentList(constructorString1, constructorString2);
-        combinedString = residentList.getRemovedStorageString(toRemove);
+        residentList = ResidentList.fromResidents(Arrays.asList(TypicalPersons.ALICE, TypicalPersons.BOB));
+        combinedString = residentList.withResidentsRemoved(toRemove).getResidentsStorage();
         assertEquals(combinedString, TypicalPersons.BOB.toString());
 
         // three residents in current, remove one of them
-        constructorString1 = TypicalPersons.ALICE.getName().toString()
-                + ", "
-                + TypicalPersons.BOB.getName().toString()
-                + ", "
-                + TypicalPersons.CARL.getName().toString();
-        constructorString2 = TypicalPersons.ALICE.toString()
-                + ", "
-                + TypicalPersons.BOB.toString()
-                + ", "
-                + TypicalPersons.CARL.toString();
-        residentList = new ResidentList(constructorString1, constructorString2);
-        combinedString = residentList.getRemovedStorageString(toRemove);
+        residentList = ResidentList.fromResidents(Arrays.asList(TypicalPersons.ALICE, TypicalPersons.BOB,
+                TypicalPersons.CARL));
+        combinedString = residentList.withResidentsRemoved(toRemove).getResidentsStorage();
         assertEquals(combinedString, TypicalPersons.BOB.toString() + ", "
                 + TypicalPersons.CARL.toString());
 
@@ -214,46 +222,32 @@ public class ResidentListTest {
         toRemove.add(TypicalPersons.BOB);
         toRemove.add(TypicalPersons.CARL);
 
-        residentList = new ResidentList(constructorString1, constructorString2);
-        combinedString = residentList.getRemovedStorageString(toRemove);
+        residentList = ResidentList.fromResidents(Arrays.asList(TypicalPersons.ALICE, TypicalPersons.BOB,
+                TypicalPersons.CARL));
+        combinedString = residentList.withResidentsRemoved(toRemove).getResidentsStorage();
         assertEquals(combinedString, ResidentList.DEFAULT_LIST);
     }
 
     @Test
-    public void getRemovedDisplayStringTest() {
-        ResidentList residentList = new ResidentList(TypicalPersons.ALICE.getName().toString(),
-                TypicalPersons.ALICE.toString());
+    public void withResidentsRemoved_displayString() {
+        // residents are removed by id, so the lists hold the persons being removed rather than copies of them
+        ResidentList residentList = ResidentList.fromResidents(Arrays.asList(TypicalPersons.ALICE));
         ArrayList<Person> toRemove = new ArrayList<>();
         toRemove.add(TypicalPersons.ALICE);
 
         // one resident in current, remove one of them
-        String combinedString = residentList.getRemovedDisplayString(toRemove);
+        String combinedString = residentList.withResidentsRemoved(toRemove).getResidentsDisplay();
         assertEquals(combinedString, ResidentList.DEFAULT_LIST);
 
         // two residents in current, remove one of them
-        String constructorString1 = TypicalPersons.ALICE.getName().toString()
-                + ", "
-                + TypicalPersons.BOB.getName().toString();
-        String constructorString2 = TypicalPersons.ALICE.toString()
-                + ", "
-                + TypicalPersons.BOB.toString();
-        residentList = new ResidentList(constructorString1, constructorString2);
-        combinedString = residentList.getRemovedDisplayString(toRemove);
+        residentList = ResidentList.fromResidents(Arrays.asList(TypicalPersons.ALICE, TypicalPersons.BOB));
+        combinedString = residentList.withResidentsRemoved(toRemove).getResidentsDisplay();
         assertEquals(combinedString, TypicalPersons.BOB.getName().toString());
 
         // three residents in current, remove one of them
-        constructorString1 = TypicalPersons.ALICE.getName().toString()
-                + ", "
-                + TypicalPersons.BOB.getName().toString()
-                + ", "
-                + TypicalPersons.CARL.getName().toString();
-        constructorString2 = TypicalPersons.ALICE.toString()
-                + ", "
-                + TypicalPersons.BOB.toString()
-                + ", "
-                + TypicalPersons.CARL.toString();
-        residentList = new ResidentList(constructorString1, constructorString2);
-        combinedString = residentList.getRemovedDisplayString(toRemove);
+        residentList = ResidentList.fromResidents(Arrays.asList(TypicalPersons.ALICE, TypicalPersons.BOB,
+                TypicalPersons.CARL));
+        combinedString = residentList.withResidentsRemoved(toRemove).getResidentsDisplay();
         assertEquals(combinedString, TypicalPersons.BOB.getName().toString() + ", "
                 + TypicalPersons.CARL.getName().toString());
 
@@ -261,9 +255,28 @@ public class ResidentListTest {
         toRemove.add(TypicalPersons.BOB);
         toRemove.add(TypicalPersons.CARL);
 
-        residentList = new ResidentList(constructorString1, constructorString2);
-        combinedString = residentList.getRemovedDisplayString(toRemove);
+        residentList = ResidentList.fromResidents(Arrays.asList(TypicalPersons.ALICE, TypicalPersons.BOB,
+                TypicalPersons.CARL));
+        combinedString = residentList.withResidentsRemoved(toRemove).getResidentsDisplay();
         assertEquals(combinedString, ResidentList.DEFAULT_LIST);
     }
-}
 
+    @Test
+    public void fromResidents_roundTripsThroughStorageString() {
+        ArrayList<Person> residents = new ArrayList<>();
+        residents.add(TypicalPersons.ALICE);
+        residents.add(TypicalPersons.BOB);
+        ResidentList residentList = ResidentList.fromResidents(residents);
+
+        ResidentList parsed = new ResidentList(residentList.getResidentsDisplay(), residentList.getResidentsStorage());
+        assertEquals(residentList, parsed);
+        assertEquals(residents, parsed.getResidents());
+        assertEquals(2, residentList.getResidentListSize());
+
+        // empty list
+        ResidentList emptyList = ResidentList.fromResidents(new ArrayList<>());
+        assertTrue(emptyList.isEmpty());
+        assertEquals(ResidentList.DEFAULT_LIST, emptyList.getResidentsDisplay());
+        assertEquals(ResidentList.DEFAULT_LIST, emptyList.getResidentsStorage());
+    }
+}
@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static safeforhall.testutil.Assert.assertThrows;
 import static safeforhall.testutil.TypicalEvents.BAND;
+import static safeforhall.testutil.TypicalEvents.DANCE;
+import static safeforhall.testutil.TypicalEvents.ROAD_RELAY;
+import static safeforhall.testutil.TypicalEvents.SWIM;
 import static safeforhall.testutil.TypicalEvents.VOLLEYBALL;
 
 import java.util.Arrays;
@@ -16,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import safeforhall.model.event.exceptions.DuplicateEventException;
 import safeforhall.model.event.exceptions.EventNotFoundException;
 import safeforhall.testutil.EventBuilder;
+import safeforhall.testutil.TypicalPersons;
 
 public class UniqueEventListTest {
 
@@ -107,6 +111,30 @@ public class UniqueEventListTest {
         assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvent(BAND, VOLLEYBALL));
     }
 
+    @Test
+    public void add_eventWithIdInList_throwsDuplicateEventException() {
+        uniqueEventList.add(BAND);
+        Event volleyball = new EventBuilder(VOLLEYBALL).withId(BAND.getId()).build();
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.add(volleyball));
+    }
+
+    @Test
+    public void setEvent_editedEventHasIdOfOtherEvent_throwsDuplicateEventException() {
+        uniqueEventList.add(BAND);
+        uniqueEventList.add(VOLLEYBALL);
+        Event editedBand = new EventBuilder(BAND).withCapacity("50").withId(VOLLEYBALL.getId()).build();
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvent(BAND, editedBand));
+    }
+
+    @Test
+    public void setEvent_editedEventKeepsId_replacesEvent() {
+        uniqueEventList.add(BAND);
+        uniqueEventList.add(VOLLEYBALL);
+        Event editedBand = new EventBuilder(BAND).withCapacity("50").withId(BAND.getId()).build();
+        uniqueEventList.setEvent(BAND, editedBand);
+        assertEquals(Arrays.asList(editedBand, VOLLEYBALL), uniqueEventList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_nullEvent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEventList.remove(null));
@@ -160,9 +188,56 @@ public class UniqueEventListTest {
         assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvents(listWithDuplicateEvents));
     }
 
+    @Test
+    public void setEvents_listWithSameEventInOtherCase_throwsDuplicateEventException() {
+        Event band = new EventBuilder(BAND).withEventName(BAND.getEventName().eventName.toUpperCase())
+                .withVenue(BAND.getVenue().venue.toLowerCase()).build();
+        List<Event> listWithDuplicateEvents = Arrays.asList(BAND, VOLLEYBALL, band);
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvents(listWithDuplicateEvents));
+    }
+
+    @Test
+    public void setEvents_listWithSameId_throwsDuplicateEventException() {
+        Event volleyball = new EventBuilder(VOLLEYBALL).withId(BAND.getId()).build();
+        List<Event> listWithDuplicateIds = Arrays.asList(BAND, volleyball);
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvents(listWithDuplicateIds));
+    }
+
+    @Test
+    public void contains_sameEventInOtherCase_returnsTrue() {
+        uniqueEventList.add(BAND);
+        Event band = new EventBuilder(BAND).withEventName(BAND.getEventName().eventName.toLowerCase()).build();
+        assertTrue(uniqueEventList.contains(band));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniqueEventList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void getResidentEvents_residentInEvents_returnsEventsInDateOrder() {
+        uniqueEventList.add(ROAD_RELAY);
+        uniqueEventList.add(DANCE);
+        uniqueEventList.add(SWIM);
+        assertEquals(Arrays.asList(SWIM, DANCE, ROAD_RELAY),
+                uniqueEventList.getResidentEvents(TypicalPersons.GEORGE));
+        assertEquals(Collections.singletonList(DANCE), uniqueEventList.getResidentEvents(TypicalPersons.BENSON));
+        assertEquals(Collections.emptyList(), uniqueEventList.getResidentEvents(TypicalPersons.ALICE));
+    }
+
+    @Test
+    public void getResidentEvents_afterSetAndRemove_reflectsLatestState() {
+        uniqueEventList.add(DANCE);
+        uniqueEventList.setEvent(DANCE, BAND);
+        assertEquals(Collections.emptyList(), uniqueEventList.getResidentEvents(TypicalPersons.GEORGE));
+        assertEquals(Collections.singletonList(BAND), uniqueEventList.getResidentEvents(TypicalPersons.CARL));
+
+        uniqueEventList.remove(BAND);
+        assertEquals(Collections.emptyList(), uniqueEventList.getResidentEvents(TypicalPersons.CARL));
+
+        uniqueEventList.setEvents(Collections.singletonList(SWIM));
+        assertEquals(Collections.singletonList(SWIM), uniqueEventList.getResidentEvents(TypicalPersons.GEORGE));
+    }
 }
@@ -2,6 +2,8 @@ package safeforhall.model.event;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static safeforhall.testutil.Assert.assertThrows;
 
@@ -45,4 +47,13 @@ public class VenueTest {
         assertEquals(v2.compareTo(v1), 1);
         assertEquals(v3.compareTo(v1), 0);
     }
+
+    @Test
+    public void of_sameVenue_returnsSameInstance() {
+        assertSame(Venue.of("Dining Hall"), Venue.of("Dining Hall"));
+        assertSame(Venue.of("Dining Hall"), Venue.of("dining hall")); // different case
+        assertNotSame(Venue.of("Dining Hall"), Venue.of("Field"));
+        assertEquals(new Venue("Dining Hall"), Venue.of("Dining Hall"));
+        assertThrows(IllegalArgumentException.class, () -> Venue.of(""));
+    }
 }
@@ -2,6 +2,8 @@ package safeforhall.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static safeforhall.testutil.Assert.assertThrows;
@@ -58,4 +60,13 @@ public class FacultyTest {
         assertEquals(f2.compareTo(f1), 1);
         assertEquals(f3.compareTo(f1), 0);
     }
+
+    @Test
+    public void of_sameFaculty_returnsSameInstance() {
+        assertSame(Faculty.of("SoC"), Faculty.of("SoC"));
+        assertSame(Faculty.of("soc"), Faculty.of("SOC")); // different case
+        assertNotSame(Faculty.of("SoC"), Faculty.of("FASS"));
+        assertEquals(new Faculty("SoC"), Faculty.of("SoC"));
+        assertThrows(IllegalArgumentException.class, () -> Faculty.of("%aas"));
+    }
 }
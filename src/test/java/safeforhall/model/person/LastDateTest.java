@@ -3,6 +3,8 @@ package safeforhall.model.person;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static safeforhall.testutil.Assert.assertThrows;
 
@@ -62,4 +64,20 @@ public class LastDateTest {
         assertEquals(ld2.compareTo(ld1), 1);
         assertEquals(ld3.compareTo(ld1), 0);
     }
+
+    @Test
+    public void toEpochDay() {
+        assertEquals(LocalDate.of(2020, 2, 10).toEpochDay(), new LastDate("10.02.2020").toEpochDay());
+        assertEquals(LocalDate.now().toEpochDay(), new LastDate(LastDate.DEFAULT_DATE).toEpochDay());
+        assertEquals(LocalDate.of(2020, 2, 17), new LastDate("10/02/2020").getDeadline());
+    }
+
+    @Test
+    public void of_sameDate_returnsSameInstance() {
+        assertSame(LastDate.of("10-02-2020"), LastDate.of("10-02-2020"));
+        assertSame(LastDate.of("10-02-2020"), LastDate.of("10.02.2020")); // different separators
+        assertNotSame(LastDate.of("10-02-2020"), LastDate.of("11-02-2020"));
+        assertEquals(new LastDate("10/02/2020"), LastDate.of("10/02/2020"));
+        assertThrows(IllegalArgumentException.class, () -> LastDate.of("30-02-2020"));
+    }
 }
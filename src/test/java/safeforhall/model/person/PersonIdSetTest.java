@@ -0,0 +1,80 @@
+package safeforhall.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static safeforhall.testutil.Assert.assertThrows;
+import static safeforhall.testutil.TypicalPersons.ALICE;
+import static safeforhall.testutil.TypicalPersons.BENSON;
+import static safeforhall.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import safeforhall.testutil.PersonBuilder;
+
+public class PersonIdSetTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersonIdSet.of(null));
+    }
+
+    @Test
+    public void of_emptyCollection_returnsEmpty() {
+        assertEquals(PersonIdSet.EMPTY, PersonIdSet.of(Collections.emptyList()));
+        assertEquals(0, PersonIdSet.EMPTY.size());
+    }
+
+    @Test
+    public void of_repeatedPersons_keepsEachIdOnce() {
+        PersonIdSet set = PersonIdSet.of(Arrays.asList(BENSON, ALICE, BENSON));
+        assertEquals(2, set.size());
+        assertEquals(PersonIdSet.of(Arrays.asList(ALICE, BENSON)), set);
+    }
+
+    @Test
+    public void contains() {
+        PersonIdSet set = PersonIdSet.of(Arrays.asList(CARL, ALICE));
+
+        assertThrows(NullPointerException.class, () -> set.contains(null));
+
+        // same id -> returns true
+        assertTrue(set.contains(ALICE));
+        assertTrue(set.contains(new PersonBuilder(CARL).withPhone("99999999").withId(CARL.getId()).build()));
+
+        // other id -> returns false, even if every field is the same
+        assertFalse(set.contains(BENSON));
+        assertFalse(set.contains(new PersonBuilder(ALICE).build()));
+    }
+
+    @Test
+    public void setOperations() {
+        PersonIdSet aliceBenson = PersonIdSet.of(Arrays.asList(ALICE, BENSON));
+        PersonIdSet bensonCarl = PersonIdSet.of(Arrays.asList(BENSON, CARL));
+
+        assertEquals(PersonIdSet.of(Arrays.asList(ALICE, BENSON, CARL)), aliceBenson.union(bensonCarl));
+        assertEquals(PersonIdSet.of(Arrays.asList(BENSON)), aliceBenson.intersection(bensonCarl));
+        assertEquals(PersonIdSet.of(Arrays.asList(ALICE)), aliceBenson.difference(bensonCarl));
+
+        // with the empty set
+        assertEquals(aliceBenson, aliceBenson.union(PersonIdSet.EMPTY));
+        assertTrue(aliceBenson.intersection(PersonIdSet.EMPTY).isEmpty());
+        assertEquals(aliceBenson, aliceBenson.difference(PersonIdSet.EMPTY));
+        assertFalse(aliceBenson.isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        PersonIdSet set = PersonIdSet.of(Arrays.asList(ALICE, BENSON));
+
+        assertEquals(set, set);
+        assertEquals(set, PersonIdSet.of(Arrays.asList(BENSON, ALICE)));
+        assertEquals(set.hashCode(), PersonIdSet.of(Arrays.asList(BENSON, ALICE)).hashCode());
+        assertNotEquals(set, PersonIdSet.of(Arrays.asList(ALICE, CARL)));
+        assertNotEquals(set, null);
+    }
+}
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 import static safeforhall.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static safeforhall.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static safeforhall.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static safeforhall.testutil.Assert.assertThrows;
 import static safeforhall.testutil.TypicalPersons.ALICE;
 import static safeforhall.testutil.TypicalPersons.BOB;
 
@@ -104,4 +105,27 @@ public class PersonTest {
         editedAlice = new PersonBuilder(ALICE).withFet("01-01-2100").build();
         assertEquals(-1, editedAlice.getMissedDates());
     }
+
+    @Test
+    public void constructor_invalidId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonBuilder(ALICE).withId(-1).build());
+        assertThrows(IllegalArgumentException.class, () -> new PersonBuilder(ALICE).withId(Person.MAX_ID + 1)
+                .build());
+    }
+
+    @Test
+    public void getId() {
+        // new person -> no id until it is added to an address book
+        Person copiedAlice = new PersonBuilder(ALICE).build();
+        assertEquals(Person.NO_ID, copiedAlice.getId());
+        assertEquals(Person.NO_ID, ALICE.withoutId().getId());
+
+        // id is kept -> same id, still equal by value
+        Person keptAlice = new PersonBuilder(ALICE).withId(ALICE.getId()).build();
+        assertEquals(ALICE.getId(), keptAlice.getId());
+        assertEquals(ALICE, keptAlice);
+
+        // id is not compared by equals
+        assertEquals(ALICE, copiedAlice);
+    }
 }
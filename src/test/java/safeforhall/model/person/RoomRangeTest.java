@@ -0,0 +1,62 @@
+package safeforhall.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static safeforhall.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class RoomRangeTest {
+
+    @Test
+    public void parse_invalidSearch_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> RoomRange.parse(null));
+        assertThrows(IllegalArgumentException.class, () -> RoomRange.parse("A12"));
+        assertThrows(IllegalArgumentException.class, () -> RoomRange.parse("A129-A100"));
+        assertThrows(IllegalArgumentException.class, () -> RoomRange.parse("A100-"));
+        assertThrows(IllegalArgumentException.class, () -> RoomRange.parse("A100-A101-A102"));
+    }
+
+    @Test
+    public void parse_validSearch_returnsRanges() {
+        assertEquals(Collections.singletonList(new RoomRange(new Room("A100"), new Room("A429"))),
+                RoomRange.parse("a"));
+        assertEquals(Collections.singletonList(new RoomRange(new Room("B200"), new Room("B229"))),
+                RoomRange.parse("B2"));
+        assertEquals(Collections.singletonList(new RoomRange(new Room("C310"), new Room("C310"))),
+                RoomRange.parse("c310"));
+        assertEquals(Collections.singletonList(new RoomRange(new Room("A129"), new Room("B101"))),
+                RoomRange.parse("A129-b101"));
+        assertEquals(Arrays.asList(new RoomRange(new Room("A300"), new Room("A329")),
+                new RoomRange(new Room("B300"), new Room("B329")),
+                new RoomRange(new Room("C300"), new Room("C329")),
+                new RoomRange(new Room("D300"), new Room("D329")),
+                new RoomRange(new Room("E300"), new Room("E329"))), RoomRange.parse("3"));
+    }
+
+    @Test
+    public void contains() {
+        RoomRange range = new RoomRange(new Room("A129"), new Room("B101"));
+        assertTrue(range.contains(new Room("A129")));
+        assertTrue(range.contains(new Room("A400")));
+        assertTrue(range.contains(new Room("b101")));
+        assertFalse(range.contains(new Room("A128")));
+        assertFalse(range.contains(new Room("B102")));
+    }
+
+    @Test
+    public void roomKey_orderedLikeRooms() {
+        Room first = new Room("A129");
+        Room second = new Room("A200");
+        assertTrue(first.toKey() < second.toKey());
+        assertTrue(first.compareTo(second) < 0);
+        assertEquals('A', first.getBlock());
+        assertEquals(1, first.getLevel());
+        assertEquals(29, first.getNumber());
+        assertEquals(new Room("e429").toKey(), Room.toKey('E', 4, 29));
+    }
+}
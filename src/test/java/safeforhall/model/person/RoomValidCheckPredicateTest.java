@@ -57,6 +57,13 @@ public class RoomValidCheckPredicateTest {
 
         predicate = new RoomValidCheckPredicate(VALID_ROOM_FOR_FIND4);
         assertTrue(predicate.test(new PersonBuilder().withName("Alice Carol").withRoom("e200").build()));
+
+        predicate = new RoomValidCheckPredicate("e");
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Carol").withRoom("E200").build()));
+
+        predicate = new RoomValidCheckPredicate("A120-B105");
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Carol").withRoom("A325").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Carol").withRoom("B106").build()));
     }
 
     @Test
@@ -7,9 +7,12 @@ import static safeforhall.testutil.Assert.assertThrows;
 import static safeforhall.testutil.TypicalPersons.ALICE;
 import static safeforhall.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -107,6 +110,30 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void add_personWithIdInList_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person bob = new PersonBuilder(BOB).withId(ALICE.getId()).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(bob));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasIdOfOtherPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").withId(BOB.getId()).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
+    @Test
+    public void setPerson_editedPersonKeepsId_replacesPerson() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").withId(ALICE.getId()).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Optional.of(editedAlice), uniquePersonList.findById(ALICE.getId()));
+        assertEquals(Collections.singletonList(editedAlice), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -125,6 +152,36 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_equalPersonWithOtherId_removesPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(new PersonBuilder(ALICE).build());
+        assertEquals(new UniquePersonList(), uniquePersonList);
+        assertEquals(Optional.empty(), uniquePersonList.findById(ALICE.getId()));
+    }
+
+    @Test
+    public void remove_personBeforeOthers_keepsPositionsOfOthers() {
+        Person carl = new PersonBuilder().withName("Carl Kurz").withRoom("A102").build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, carl));
+        assertEquals(0, uniquePersonList.remove(ALICE));
+
+        // carl had no id, so has been given one
+        Person listedCarl = uniquePersonList.findByRoom(carl.getRoom()).get();
+        assertEquals(Optional.of(listedCarl), uniquePersonList.findById(listedCarl.getId()));
+        Person editedCarl = new PersonBuilder(carl).withPhone("99999999").withId(listedCarl.getId()).build();
+        assertEquals(1, uniquePersonList.setPerson(carl, editedCarl));
+        assertEquals(0, uniquePersonList.remove(BOB));
+        assertEquals(Collections.singletonList(editedCarl), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_editedPersonWithSameId_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").withId(ALICE.getId()).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -160,6 +217,215 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameNameInOtherCase_throwsDuplicatePersonException() {
+        Person alice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).withRoom("E429")
+                .build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, alice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_listWithSameRoom_throwsDuplicatePersonException() {
+        Person alice = new PersonBuilder(ALICE).withName("Alice Other").build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, alice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_listWithSameId_throwsDuplicatePersonException() {
+        Person bob = new PersonBuilder(BOB).withId(ALICE.getId()).build();
+        List<Person> listWithDuplicateIds = Arrays.asList(ALICE, bob);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicateIds));
+    }
+
+    @Test
+    public void findByRoom_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.findByRoom(new Room(ALICE.getRoom().room.toLowerCase())));
+        assertEquals(Optional.empty(), uniquePersonList.findByRoom(BOB.getRoom()));
+    }
+
+    @Test
+    public void findByName_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.findByName(new Name(ALICE.getName().fullName.toUpperCase())));
+        assertEquals(Optional.empty(), uniquePersonList.findByName(BOB.getName()));
+    }
+
+    @Test
+    public void findById_afterSetAndRemove_reflectsLatestState() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.findById(ALICE.getId()));
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(Optional.empty(), uniquePersonList.findById(ALICE.getId()));
+        assertEquals(Optional.of(BOB), uniquePersonList.findById(BOB.getId()));
+        uniquePersonList.remove(BOB);
+        assertEquals(Optional.empty(), uniquePersonList.findById(BOB.getId()));
+    }
+
+    @Test
+    public void findByRoom_afterSetAndRemove_reflectsLatestState() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(Optional.empty(), uniquePersonList.findByRoom(ALICE.getRoom()));
+        assertEquals(Optional.of(BOB), uniquePersonList.findByRoom(BOB.getRoom()));
+        assertEquals(Optional.of(BOB), uniquePersonList.findByName(BOB.getName()));
+
+        uniquePersonList.remove(BOB);
+        assertEquals(Optional.empty(), uniquePersonList.findByRoom(BOB.getRoom()));
+        assertEquals(Optional.empty(), uniquePersonList.findByName(BOB.getName()));
+
+        uniquePersonList.setPersons(Collections.singletonList(ALICE));
+        assertEquals(Optional.of(ALICE), uniquePersonList.findByName(ALICE.getName()));
+    }
+
+    @Test
+    public void findDueBetween_afterSetAndRemove_reflectsLatestState() {
+        Person alice = new PersonBuilder(ALICE).withFet("03-10-2021").withCollection("01-01-2100").build();
+        Person bob = new PersonBuilder(BOB).withFet("05-10-2021").withCollection("None").build();
+        uniquePersonList.add(alice);
+        uniquePersonList.add(bob);
+        LocalDate start = LocalDate.of(2021, 10, 10);
+        LocalDate end = LocalDate.of(2021, 10, 12);
+
+        assertEquals(Arrays.asList(alice, bob), uniquePersonList.findDueBetween("f", start, end));
+        assertEquals(Collections.emptyList(), uniquePersonList.findDueBetween("c", start, end));
+        assertEquals(Collections.singletonList(bob),
+                uniquePersonList.findDueBetween("c", LocalDate.now(), LocalDate.now()));
+        assertEquals(Collections.emptyList(), uniquePersonList.findDueBetween("f", end, start));
+
+        Person editedAlice = new PersonBuilder(alice).withFet("20-10-2021").build();
+        uniquePersonList.setPerson(alice, editedAlice);
+        assertEquals(Collections.singletonList(bob), uniquePersonList.findDueBetween("f", start, end));
+
+        uniquePersonList.remove(bob);
+        assertEquals(Collections.emptyList(), uniquePersonList.findDueBetween("f", start, end));
+        assertEquals(Collections.emptyList(),
+                uniquePersonList.findDueBetween("c", LocalDate.now(), LocalDate.now()));
+    }
+
+    @Test
+    public void findDueBefore_personsDueBeforeDate_returnsPersons() {
+        Person alice = new PersonBuilder(ALICE).withFet("03-10-2021").withCollection("01-01-2100").build();
+        Person bob = new PersonBuilder(BOB).withFet("05-10-2021").withCollection("None").build();
+        uniquePersonList.setPersons(Arrays.asList(alice, bob));
+
+        assertEquals(Collections.emptyList(), uniquePersonList.findDueBefore("f", LocalDate.of(2021, 10, 10)));
+        assertEquals(Collections.singletonList(alice),
+                uniquePersonList.findDueBefore("f", LocalDate.of(2021, 10, 11)));
+        assertEquals(Arrays.asList(alice, bob), uniquePersonList.findDueBefore("f", LocalDate.of(2021, 10, 13)));
+        // persons without a date are due today, and alice's collection is not due until long after
+        assertEquals(Collections.singletonList(bob),
+                uniquePersonList.findDueBefore("c", LocalDate.now().plusDays(1)));
+    }
+
+    @Test
+    public void findMatching_afterSetAndRemove_reflectsLatestState() {
+        Person alice = new PersonBuilder(ALICE).withRoom("A100").withVaccStatus("T").withFaculty("SoC").build();
+        Person bob = new PersonBuilder(BOB).withRoom("C210").withVaccStatus("F").withFaculty("FASS").build();
+        Person carl = new PersonBuilder().withName("Carl Kurz").withRoom("C100").withVaccStatus("F")
+                .withFaculty("SoC").build();
+        uniquePersonList.setPersons(Arrays.asList(alice, bob, carl));
+
+        AttributeFilter unvaccinatedInBlockC = new AttributeFilter(new VaccStatus("F"), null, "c");
+        assertEquals(Arrays.asList(bob, carl), uniquePersonList.findMatching(unvaccinatedInBlockC));
+        assertEquals(2, uniquePersonList.countMatching(unvaccinatedInBlockC));
+        assertEquals(2, uniquePersonList.countMatching(new AttributeFilter(null, new Faculty("soc"), "1")));
+        assertEquals(0, uniquePersonList.countMatching(new AttributeFilter(null, new Faculty("SDE"), null)));
+        assertEquals(3, uniquePersonList.countMatching(new AttributeFilter(null, null, null)));
+
+        Person vaccinatedCarl = new PersonBuilder(carl).withVaccStatus("T").build();
+        uniquePersonList.setPerson(carl, vaccinatedCarl);
+        assertEquals(Collections.singletonList(bob), uniquePersonList.findMatching(unvaccinatedInBlockC));
+
+        uniquePersonList.remove(alice);
+        uniquePersonList.add(new PersonBuilder(ALICE).withRoom("C101").withVaccStatus("F").build());
+        assertEquals(2, uniquePersonList.countMatching(unvaccinatedInBlockC));
+        assertEquals(0, uniquePersonList.countMatching(new AttributeFilter(null, null, "a")));
+    }
+
+    @Test
+    public void countMatching_manyPersons_countsEveryPerson() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            String name = "Resident " + (char) ('A' + i / 26) + (char) ('a' + i % 26);
+            String room = "" + (char) ('A' + i / 20) + (1 + i % 4) + "0" + (i % 20 / 4);
+            persons.add(new PersonBuilder().withName(name).withRoom(room).withVaccStatus(i % 2 == 0 ? "F" : "T")
+                    .withFaculty(i % 3 == 0 ? "SoC" : "FASS").build());
+        }
+        uniquePersonList.setPersons(persons);
+
+        assertEquals(20, uniquePersonList.countMatching(new AttributeFilter(new VaccStatus("F"), null, null)));
+        assertEquals(5, uniquePersonList.countMatching(new AttributeFilter(new VaccStatus("F"), null, "a1")));
+        assertEquals(14, uniquePersonList.countMatching(new AttributeFilter(null, new Faculty("soc"), null)));
+        assertEquals(10, uniquePersonList.countMatching(new AttributeFilter(null, null, "3")));
+
+        uniquePersonList.remove(persons.get(24));
+        assertEquals(Collections.singletonList(persons.get(36)),
+                uniquePersonList.findMatching(new AttributeFilter(null, new Faculty("SoC"), "b1")));
+    }
+
+    @Test
+    public void findByNameWords_afterSetAndRemove_reflectsLatestState() {
+        Person alice = new PersonBuilder(ALICE).withName("Alice Pauline").build();
+        Person bob = new PersonBuilder(BOB).withName("Bob Choo").build();
+        uniquePersonList.setPersons(Arrays.asList(alice, bob));
+
+        assertEquals(Arrays.asList(alice, bob), uniquePersonList.findByNameWords(Arrays.asList("pAULINE", "choo")));
+        assertEquals(Collections.emptyList(), uniquePersonList.findByNameWords(Arrays.asList("Ali", "Chooo")));
+
+        Person editedBob = new PersonBuilder(bob).withName("Bob Tan").build();
+        uniquePersonList.setPerson(bob, editedBob);
+        assertEquals(Collections.emptyList(), uniquePersonList.findByNameWords(Collections.singletonList("choo")));
+        assertEquals(Collections.singletonList(editedBob),
+                uniquePersonList.findByNameWords(Collections.singletonList("tan")));
+
+        uniquePersonList.remove(alice);
+        assertEquals(Collections.emptyList(), uniquePersonList.findByNameWords(Collections.singletonList("alice")));
+    }
+
+    @Test
+    public void searchByName_exactPrefixAndMisspeltWords_rankedInOrder() {
+        Person ali = new PersonBuilder().withName("Ali Khan").withRoom("A100").build();
+        Person alice = new PersonBuilder(ALICE).withName("Alice Pauline").withRoom("A101").build();
+        Person alicent = new PersonBuilder().withName("Alicent Lim").withRoom("A102").build();
+        Person alise = new PersonBuilder().withName("Alise Ng").withRoom("A103").build();
+        Person bob = new PersonBuilder(BOB).withName("Bob Choo").withRoom("A104").build();
+        uniquePersonList.setPersons(Arrays.asList(bob, alise, alicent, alice, ali));
+
+        // exact word, then words starting with it, then words one edit away
+        assertEquals(Arrays.asList(alice, alicent, alise), uniquePersonList.searchByName("ALICE"));
+        assertEquals(Arrays.asList(ali, alice, alicent, alise), uniquePersonList.searchByName("ali"));
+        // misspelt words
+        assertEquals(Collections.singletonList(alice), uniquePersonList.searchByName("Paulnie"));
+        assertEquals(Collections.singletonList(bob), uniquePersonList.searchByName("chou"));
+        // short words are not matched with misspellings
+        assertEquals(Collections.emptyList(), uniquePersonList.searchByName("bx"));
+
+        uniquePersonList.remove(alicent);
+        assertEquals(Arrays.asList(alice, alise), uniquePersonList.searchByName("alice"));
+    }
+
+    @Test
+    public void findInRooms_afterSetAndRemove_reflectsLatestState() {
+        Person alice = new PersonBuilder(ALICE).withRoom("A129").build();
+        Person bob = new PersonBuilder(BOB).withRoom("A201").build();
+        uniquePersonList.setPersons(Arrays.asList(bob, alice));
+
+        assertEquals(Arrays.asList(alice, bob), uniquePersonList.findInRooms(RoomRange.parse("A")));
+        assertEquals(Collections.singletonList(bob), uniquePersonList.findInRooms(RoomRange.parse("2")));
+        assertEquals(Collections.singletonList(alice), uniquePersonList.findInRooms(RoomRange.parse("A100-A129")));
+
+        Person movedAlice = new PersonBuilder(alice).withRoom("C100").build();
+        uniquePersonList.setPerson(alice, movedAlice);
+        assertEquals(Collections.singletonList(bob), uniquePersonList.findInRooms(RoomRange.parse("A")));
+        assertEquals(Collections.singletonList(movedAlice), uniquePersonList.findInRooms(RoomRange.parse("1")));
+
+        uniquePersonList.remove(bob);
+        assertEquals(Collections.emptyList(), uniquePersonList.findInRooms(RoomRange.parse("A")));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,43 @@
+package safeforhall.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static safeforhall.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class VaccStatusTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new VaccStatus(null));
+    }
+
+    @Test
+    public void constructor_invalidVaccStatus_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VaccStatus("Y"));
+    }
+
+    @Test
+    public void isValidVaccStatus() {
+        assertFalse(VaccStatus.isValidVaccStatus("")); // empty string
+        assertFalse(VaccStatus.isValidVaccStatus("TF")); // more than one character
+        assertFalse(VaccStatus.isValidVaccStatus("Y")); // not T or F
+
+        assertTrue(VaccStatus.isValidVaccStatus("T"));
+        assertTrue(VaccStatus.isValidVaccStatus("f")); // lower case
+    }
+
+    @Test
+    public void of_sameVaccStatus_returnsSameInstance() {
+        assertSame(VaccStatus.of("T"), VaccStatus.of("t"));
+        assertSame(VaccStatus.of("F"), VaccStatus.of("f"));
+        assertNotSame(VaccStatus.of("T"), VaccStatus.of("F"));
+        assertEquals(new VaccStatus("t"), VaccStatus.of("t"));
+        assertTrue(VaccStatus.of("t").vaccinated);
+        assertThrows(IllegalArgumentException.class, () -> VaccStatus.of("Y"));
+    }
+}
@@ -0,0 +1,137 @@
+package safeforhall.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static safeforhall.testutil.Assert.assertThrows;
+import static safeforhall.testutil.TypicalPersons.ALICE;
+import static safeforhall.testutil.TypicalPersons.BENSON;
+import static safeforhall.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import safeforhall.model.AddressBook;
+import safeforhall.model.ReadOnlyAddressBook;
+
+public class AddressBookSaverTest {
+
+    private static final long LONG_DELAY_MILLIS = 60_000;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookSaver(null, 0));
+    }
+
+    @Test
+    public void requestSave_beforeDelay_doesNotWrite() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBookSaver saver = new AddressBookSaver(new JsonAddressBookStorage(filePath), LONG_DELAY_MILLIS);
+
+        saver.requestSave(getTypicalAddressBook());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void flush_coalescedRequests_savesLatestSnapshotOnce() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        CountingStorage storage = new CountingStorage(filePath);
+        AddressBookSaver saver = new AddressBookSaver(storage, LONG_DELAY_MILLIS);
+
+        AddressBook original = getTypicalAddressBook();
+        saver.requestSave(original);
+        original.removePerson(ALICE);
+        saver.requestSave(original);
+
+        // changes made after the last request are not saved
+        original.removePerson(BENSON);
+        saver.flush();
+
+        assertEquals(1, storage.saveCount);
+        AddressBook expected = getTypicalAddressBook();
+        expected.removePerson(ALICE);
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+
+        // nothing left to save
+        saver.flush();
+        assertEquals(1, storage.saveCount);
+    }
+
+    @Test
+    public void flush_saveFails_savesSnapshotAgainUntilSaveSucceeds() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        FailingStorage storage = new FailingStorage(filePath, 2);
+        AddressBookSaver saver = new AddressBookSaver(storage, LONG_DELAY_MILLIS);
+
+        saver.requestSave(getTypicalAddressBook());
+        assertThrows(IOException.class, FailingStorage.MESSAGE, saver::flush);
+        assertThrows(IOException.class, FailingStorage.MESSAGE, saver::flush);
+        assertFalse(Files.exists(filePath));
+
+        saver.flush();
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void requestSave_saveFailsOnce_reportsFailureAndKeepsSnapshot() throws Exception {
+        FailingStorage storage = new FailingStorage(testFolder.resolve("TempAddressBook.json"), 1);
+        CompletableFuture<IOException> failure = new CompletableFuture<>();
+        AddressBookSaver saver = new AddressBookSaver(storage, 0, AddressBookSaver.UNKNOWN_VERSION,
+                failure::complete);
+
+        saver.requestSave(getTypicalAddressBook());
+        assertEquals(FailingStorage.MESSAGE, failure.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).getMessage());
+
+        // the snapshot that failed to save is saved by the next flush
+        saver.flush();
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that counts the number of saves.
+     */
+    private static class CountingStorage extends JsonAddressBookStorage {
+        private int saveCount;
+
+        CountingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that fails its first {@code failures} saves.
+     */
+    private static class FailingStorage extends JsonAddressBookStorage {
+        private static final String MESSAGE = "dummy exception";
+        private int failuresLeft;
+
+        FailingStorage(Path filePath, int failures) {
+            super(filePath);
+            failuresLeft = failures;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IOException(MESSAGE);
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package safeforhall.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static safeforhall.testutil.Assert.assertThrows;
+import static safeforhall.testutil.TypicalPersons.ALICE;
+import static safeforhall.testutil.TypicalPersons.HOON;
+import static safeforhall.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import safeforhall.commons.exceptions.DataConversionException;
+import safeforhall.model.AddressBook;
+import safeforhall.model.ReadOnlyAddressBook;
+import safeforhall.model.event.Event;
+import safeforhall.model.person.Person;
+import safeforhall.testutil.TypicalEvents;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() {
+        Path filePath = TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json");
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] data = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(data, data.length / 2));
+
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        TypicalEvents.getTypicalEvents().forEach(original::addEvent);
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Modify data, overwrite existing file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_idsKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        TypicalEvents.getTypicalEvents().forEach(original::addEvent);
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook read = storage.readAddressBook().get();
+        assertEquals(getPersonIds(original), getPersonIds(read));
+        assertEquals(getEventIds(original), getEventIds(read));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_residentsNotInAddressBook_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = TypicalEvents.getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertTrue(readBack.getPersonList().isEmpty());
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath);
+        AddressBook original = getTypicalAddressBook();
+        TypicalEvents.getTypicalEvents().forEach(original::addEvent);
+
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(original);
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "safeforhall.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "safeforhall.json")));
+        assertEquals(Paths.get("data", "safeforhall.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "safeforhall")));
+    }
+
+    @Test
+    public void importAndExportJson_success() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath);
+        Path exportedFilePath = testFolder.resolve("Exported.json");
+        AddressBook original = getTypicalAddressBook();
+        TypicalEvents.getTypicalEvents().forEach(original::addEvent);
+
+        // nothing to import or export yet
+        assertFalse(BinaryAddressBookStorage.importJson(jsonFilePath, binaryFilePath));
+        assertFalse(BinaryAddressBookStorage.exportJson(binaryFilePath, exportedFilePath));
+
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.importJson(jsonFilePath, binaryFilePath));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get()));
+
+        assertTrue(BinaryAddressBookStorage.exportJson(binaryFilePath, exportedFilePath));
+        assertEquals(Files.readString(jsonFilePath), Files.readString(exportedFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(testFolder.resolve("a.bin"))
+                .saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(testFolder.resolve("a.bin"))
+                .saveAddressBook(new AddressBook(), null));
+    }
+
+    private static List<Integer> getPersonIds(ReadOnlyAddressBook addressBook) {
+        return addressBook.getPersonList().stream().map(Person::getId).collect(Collectors.toList());
+    }
+
+    private static List<Integer> getEventIds(ReadOnlyAddressBook addressBook) {
+        return addressBook.getEventList().stream().map(Event::getId).collect(Collectors.toList());
+    }
+}
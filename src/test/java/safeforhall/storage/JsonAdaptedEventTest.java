@@ -4,16 +4,24 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static safeforhall.storage.JsonAdaptedEvent.MISSING_FIELD_MESSAGE_FORMAT;
 import static safeforhall.testutil.Assert.assertThrows;
 import static safeforhall.testutil.TypicalEvents.BAND;
+import static safeforhall.testutil.TypicalPersons.BENSON;
+import static safeforhall.testutil.TypicalPersons.CARL;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import safeforhall.commons.exceptions.IllegalValueException;
 import safeforhall.model.event.Capacity;
+import safeforhall.model.event.Event;
 import safeforhall.model.event.EventDate;
 import safeforhall.model.event.EventName;
 import safeforhall.model.event.EventTime;
 import safeforhall.model.event.ResidentList;
 import safeforhall.model.event.Venue;
+import safeforhall.model.person.Person;
+import safeforhall.model.person.Room;
+import safeforhall.testutil.PersonBuilder;
 
 
 public class JsonAdaptedEventTest {
@@ -23,6 +31,7 @@ public class JsonAdaptedEventTest {
     private static final String INVALID_VENUE = " ";
     private static final String INVALID_CAPACITY = "capacity";
     private static final String INVALID_RESIDENTS = "fakename1, ABCD324948";
+    private static final String INVALID_ROOM = "Z999";
 
     private static final String VALID_EVENTNAME = BAND.getEventName().eventName;
     private static final String VALID_EVENTDATE = BAND.getEventDate().eventDate;
@@ -37,6 +46,22 @@ public class JsonAdaptedEventTest {
         assertEquals(BAND, event.toModelType());
     }
 
+    @Test
+    public void toModelType_storedId_keepsId() throws Exception {
+        assertEquals(BAND.getId(), new JsonAdaptedEvent(BAND).toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(0, VALID_EVENTNAME, VALID_EVENTDATE, VALID_EVENTTIME,
+                VALID_VENUE, VALID_CAPACITY, VALID_RESIDENTS, null);
+        assertThrows(IllegalValueException.class, Event.MESSAGE_ID_CONSTRAINTS, event::toModelType);
+
+        JsonAdaptedEvent largeIdEvent = new JsonAdaptedEvent(Event.MAX_ID + 1, VALID_EVENTNAME,
+                VALID_EVENTDATE, VALID_EVENTTIME, VALID_VENUE, VALID_CAPACITY, VALID_RESIDENTS, null);
+        assertThrows(IllegalValueException.class, Event.MESSAGE_ID_CONSTRAINTS, largeIdEvent::toModelType);
+    }
+
     @Test
     public void toModelType_invalidEventName_throwsIllegalValueException() {
         JsonAdaptedEvent event =
@@ -139,4 +164,37 @@ public class JsonAdaptedEventTest {
         assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
     }
 
+    @Test
+    public void toModelType_residentRooms_residentsFoundByRoom() throws Exception {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(BAND, JsonAdaptedEvent.indexByRoom(List.of(BENSON, CARL)));
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+
+        Event modelEvent = event.toModelType(JsonAdaptedEvent.indexByRoom(List.of(editedBenson, CARL)));
+        assertEquals(BAND, modelEvent);
+        assertEquals(List.of(CARL, editedBenson), modelEvent.getResidentList().getResidents());
+    }
+
+    @Test
+    public void toModelType_residentNotInAddressBook_keepsStoredResident() throws Exception {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(BAND, JsonAdaptedEvent.indexByRoom(List.of(CARL)));
+
+        Event modelEvent = event.toModelType(JsonAdaptedEvent.indexByRoom(List.of(CARL)));
+        assertEquals(List.of(CARL, BENSON), modelEvent.getResidentList().getResidents());
+    }
+
+    @Test
+    public void toModelType_residentRoomNotFound_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(BAND, JsonAdaptedEvent.indexByRoom(List.of(BENSON, CARL)));
+        String expectedMessage = String.format(JsonAdaptedEvent.MESSAGE_MISSING_RESIDENT, CARL.getRoom().room);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                event.toModelType(JsonAdaptedEvent.indexByRoom(List.of(BENSON))));
+    }
+
+    @Test
+    public void toModelType_invalidResidentRoom_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_EVENTNAME, VALID_EVENTDATE, VALID_EVENTTIME,
+                VALID_VENUE, VALID_CAPACITY, ResidentList.DEFAULT_LIST, List.of(INVALID_ROOM));
+        assertThrows(IllegalValueException.class, Room.MESSAGE_CONSTRAINTS, event::toModelType);
+    }
+
 }
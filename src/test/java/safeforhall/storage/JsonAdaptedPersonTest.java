@@ -12,6 +12,7 @@ import safeforhall.model.person.Email;
 import safeforhall.model.person.Faculty;
 import safeforhall.model.person.LastDate;
 import safeforhall.model.person.Name;
+import safeforhall.model.person.Person;
 import safeforhall.model.person.Phone;
 import safeforhall.model.person.Room;
 import safeforhall.model.person.VaccStatus;
@@ -41,6 +42,22 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_storedId_keepsId() throws Exception {
+        assertEquals(BENSON.getId(), new JsonAdaptedPerson(BENSON).toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(-1, VALID_NAME, VALID_ROOM, VALID_PHONE, VALID_EMAIL,
+                VALID_VACC, VALID_FACULTY, VALID_FETDATE, VALID_COLLECTIONDATE);
+        assertThrows(IllegalValueException.class, Person.MESSAGE_ID_CONSTRAINTS, person::toModelType);
+
+        JsonAdaptedPerson largeIdPerson = new JsonAdaptedPerson(Person.MAX_ID + 1, VALID_NAME, VALID_ROOM,
+                VALID_PHONE, VALID_EMAIL, VALID_VACC, VALID_FACULTY, VALID_FETDATE, VALID_COLLECTIONDATE);
+        assertThrows(IllegalValueException.class, Person.MESSAGE_ID_CONSTRAINTS, largeIdPerson::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
@@ -2,16 +2,19 @@ package safeforhall.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static safeforhall.testutil.Assert.assertThrows;
 import static safeforhall.testutil.TypicalEvents.BASKETBALL;
 import static safeforhall.testutil.TypicalEvents.HACKERS;
 import static safeforhall.testutil.TypicalEvents.POOL;
 import static safeforhall.testutil.TypicalPersons.ALICE;
+import static safeforhall.testutil.TypicalPersons.BENSON;
 import static safeforhall.testutil.TypicalPersons.HOON;
 import static safeforhall.testutil.TypicalPersons.IDA;
 import static safeforhall.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -124,6 +127,31 @@ public class JsonAddressBookStorageTest {
         assertEquals(original, new AddressBook(readBack));
     }
 
+    @Test
+    public void readAndSaveAddressBook_eventResidentsInAddressBook_storedByRoom() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        TypicalEvents.getTypicalEvents().forEach(original::addEvent);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertFalse(Files.readString(filePath).contains(BENSON.toString()));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // residents that are no longer in the address book keep their details
+        original.removePerson(BENSON);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertTrue(Files.readString(filePath).contains(BENSON.toString()));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_eventsBeforePersons_residentsFoundAmongPersons() throws Exception {
+        ReadOnlyAddressBook readBack = readAddressBook("eventsBeforePersonsAddressBook.json").get();
+        assertEquals(1, readBack.getEventList().size());
+        assertEquals(readBack.getPersonList(), readBack.getEventList().get(0).getResidentList().getResidents());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,63 @@
+package safeforhall.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static safeforhall.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import safeforhall.commons.exceptions.IllegalValueException;
+
+public class ParallelModelConverterTest {
+
+    private static final int SOURCE_COUNT = ParallelModelConverter.CHUNK_SIZE * 20;
+
+    private final List<Integer> sources = IntStream.range(0, SOURCE_COUNT).boxed().collect(Collectors.toList());
+
+    @Test
+    public void convert_nullSources_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                ParallelModelConverter.convert(null, source -> source, converted -> {}));
+    }
+
+    @Test
+    public void convert_validSources_resultsInSourceOrder() throws Exception {
+        List<String> results = new ArrayList<>();
+        ParallelModelConverter.convert(sources, String::valueOf, results::add);
+
+        assertEquals(sources.stream().map(String::valueOf).collect(Collectors.toList()), results);
+    }
+
+    @Test
+    public void convert_invalidSources_throwsFirstFailureAfterEarlierResults() {
+        List<Integer> results = new ArrayList<>();
+        int firstInvalid = SOURCE_COUNT / 2 + 1;
+
+        assertThrows(IllegalValueException.class, String.valueOf(firstInvalid), () ->
+                ParallelModelConverter.convert(sources, source -> {
+                    if (source >= firstInvalid && source % 7 == firstInvalid % 7) {
+                        throw new IllegalValueException(String.valueOf(source));
+                    }
+                    return source;
+                }, results::add));
+        assertEquals(sources.subList(0, firstInvalid), results);
+    }
+
+    @Test
+    public void convert_sinkRejectsResult_stopsAtRejectedResult() {
+        List<Integer> results = new ArrayList<>();
+
+        assertThrows(IllegalValueException.class, "rejected", () ->
+                ParallelModelConverter.convert(sources, source -> source, converted -> {
+                    if (converted == 3) {
+                        throw new IllegalValueException("rejected");
+                    }
+                    results.add(converted);
+                }));
+        assertEquals(sources.subList(0, 3), results);
+    }
+}
@@ -1,9 +1,16 @@
 package safeforhall.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static safeforhall.testutil.TypicalPersons.ALICE;
+import static safeforhall.testutil.TypicalPersons.BENSON;
+import static safeforhall.testutil.TypicalPersons.HOON;
+import static safeforhall.testutil.TypicalPersons.IDA;
 import static safeforhall.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import safeforhall.commons.core.GuiSettings;
+import safeforhall.commons.core.StorageFormat;
 import safeforhall.model.AddressBook;
 import safeforhall.model.ReadOnlyAddressBook;
 import safeforhall.model.UserPrefs;
@@ -60,6 +68,61 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void openAddressBookStorage_journalThenJsonThenJournal_keepsAllChanges() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+
+        // changes saved with a journal are only in the journal
+        AddressBook original = getTypicalAddressBook();
+        AddressBookStorage journalStorage = StorageManager.openAddressBookStorage(filePath, StorageFormat.JOURNAL);
+        journalStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        journalStorage.saveAddressBook(original);
+        assertTrue(Files.readAllLines(journalPath).size() > 1);
+
+        // switching to json folds the journal into the json file
+        AddressBookStorage jsonStorage = StorageManager.openAddressBookStorage(filePath, StorageFormat.JSON);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new AddressBook(jsonStorage.readAddressBook().get()));
+        original.addPerson(IDA);
+        original.removePerson(BENSON);
+        jsonStorage.saveAddressBook(original);
+
+        // switching back to the journal reads what was saved as json
+        journalStorage = StorageManager.openAddressBookStorage(filePath, StorageFormat.JOURNAL);
+        assertEquals(original, new AddressBook(journalStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void openAddressBookStorage_binaryThenJsonThenBinary_keepsLatestChanges() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(filePath);
+
+        AddressBook original = getTypicalAddressBook();
+        AddressBookStorage binaryStorage = StorageManager.openAddressBookStorage(filePath, StorageFormat.BINARY);
+        binaryStorage.saveAddressBook(original);
+
+        // switching to json converts the binary snapshot and removes it
+        AddressBookStorage jsonStorage = StorageManager.openAddressBookStorage(filePath, StorageFormat.JSON);
+        assertFalse(Files.exists(binaryFilePath));
+        assertEquals(original, new AddressBook(jsonStorage.readAddressBook().get()));
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        jsonStorage.saveAddressBook(original);
+
+        // switching back to binary reads what was saved as json, not the earlier binary snapshot
+        binaryStorage = StorageManager.openAddressBookStorage(filePath, StorageFormat.BINARY);
+        assertFalse(Files.exists(filePath));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+        original.addPerson(IDA);
+        binaryStorage.saveAddressBook(original);
+
+        jsonStorage = StorageManager.openAddressBookStorage(filePath, StorageFormat.JSON);
+        assertEquals(original, new AddressBook(jsonStorage.readAddressBook().get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
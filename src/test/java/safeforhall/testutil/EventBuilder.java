@@ -1,5 +1,7 @@
 package safeforhall.testutil;
 
+import java.util.Arrays;
+
 import safeforhall.model.event.Capacity;
 import safeforhall.model.event.Event;
 import safeforhall.model.event.EventDate;
@@ -7,6 +9,7 @@ import safeforhall.model.event.EventName;
 import safeforhall.model.event.EventTime;
 import safeforhall.model.event.ResidentList;
 import safeforhall.model.event.Venue;
+import safeforhall.model.person.Person;
 
 /**
  * A utility class to help with building Event objects.
@@ -19,6 +22,7 @@ public class EventBuilder {
     public static final String DEFAULT_CAPACITY = "20";
     public static final String DEFAULT_RESIDENT_LIST = "None";
 
+    private Integer id;
     private EventName eventName;
     private EventDate eventDate;
     private EventTime eventTime;
@@ -39,7 +43,7 @@ public class EventBuilder {
     }
 
     /**
-     * Initializes the EventBuilder with the data of {@code eventToCopy}.
+     * Initializes the EventBuilder with the data of {@code eventToCopy}, other than its id.
      */
     public EventBuilder(Event eventToCopy) {
         eventName = eventToCopy.getEventName();
@@ -50,6 +54,14 @@ public class EventBuilder {
         residents = eventToCopy.getResidentList();
     }
 
+    /**
+     * Sets the id of the {@code Event} that we are building, which otherwise has none.
+     */
+    public EventBuilder withId(int id) {
+        this.id = id;
+        return this;
+    }
+
     /**
      * Sets the {@code eventName} of the {@code Event} that we are building.
      */
@@ -98,7 +110,21 @@ public class EventBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code ResidentList} of the {@code Event} that we are building to the given {@code residents}.
+     */
+    public EventBuilder withResidents(Person... residents) {
+        this.residents = ResidentList.fromResidents(Arrays.asList(residents));
+        return this;
+    }
+
+    /**
+     * Builds the {@code Event}, without an id unless one has been set.
+     */
     public Event build() {
-        return new Event(eventName, eventDate, eventTime, venue, capacity, residents);
+        if (id == null) {
+            return new Event(eventName, eventDate, eventTime, venue, capacity, residents);
+        }
+        return new Event(id, eventName, eventDate, eventTime, venue, capacity, residents);
     }
 }
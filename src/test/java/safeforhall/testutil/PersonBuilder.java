@@ -23,6 +23,7 @@ public class PersonBuilder {
     public static final String DEFAULT_FETDATE = "None";
     public static final String DEFAULT_COLLECTDATE = "None";
 
+    private Integer id;
     private Name name;
     private Room room;
     private Phone phone;
@@ -47,7 +48,7 @@ public class PersonBuilder {
     }
 
     /**
-     * Initializes the PersonBuilder with the data of {@code personToCopy}.
+     * Initializes the PersonBuilder with the data of {@code personToCopy}, other than its id.
      */
     public PersonBuilder(Person personToCopy) {
         name = personToCopy.getName();
@@ -60,6 +61,14 @@ public class PersonBuilder {
         lastCollectionDate = personToCopy.getLastCollectionDate();
     }
 
+    /**
+     * Sets the id of the {@code Person} that we are building, which otherwise has none.
+     */
+    public PersonBuilder withId(int id) {
+        this.id = id;
+        return this;
+    }
+
     /**
      * Sets the {@code Name} of the {@code Person} that we are building.
      */
@@ -124,8 +133,14 @@ public class PersonBuilder {
         return this;
     }
 
+    /**
+     * Builds the {@code Person}, without an id unless one has been set.
+     */
     public Person build() {
-        return new Person(name, room, phone, email, vaccStatus, faculty, lastFetDate, lastCollectionDate);
+        if (id == null) {
+            return new Person(name, room, phone, email, vaccStatus, faculty, lastFetDate, lastCollectionDate);
+        }
+        return new Person(id, name, room, phone, email, vaccStatus, faculty, lastFetDate, lastCollectionDate);
     }
 
 }
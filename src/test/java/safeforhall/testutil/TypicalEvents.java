@@ -18,67 +18,62 @@ public class TypicalEvents {
             .withEventTime("0830")
             .withCapacity("1")
             .withResidentList(ResidentList.DEFAULT_LIST, ResidentList.DEFAULT_LIST)
+            .withId(1)
             .build();
     public static final Event VOLLEYBALL = new EventBuilder().withEventName("volleyball")
             .withEventDate("12-10-2021")
             .withEventTime("0800")
             .withVenue("volleyball court")
             .withCapacity("6")
-            .withResidentList(TypicalPersons.DANIEL.getName().toString(), TypicalPersons.DANIEL.toString())
+            .withResidents(TypicalPersons.DANIEL)
+            .withId(2)
             .build();
     public static final Event POWERLIFTING = new EventBuilder().withEventName("powerlifting")
             .withEventDate("15-10-2021")
             .withEventTime("0830")
             .withVenue("gym")
             .withCapacity("7")
-            .withResidentList(TypicalPersons.ELLE.getName().toString()
-                            + ", " + TypicalPersons.FIONA.getName().toString()
-                            + ", " + TypicalPersons.GEORGE.getName().toString(),
-                    TypicalPersons.ELLE.toString()
-                            + ", " + TypicalPersons.FIONA.toString()
-                            + ", " + TypicalPersons.GEORGE.toString())
+            .withResidents(TypicalPersons.ELLE, TypicalPersons.FIONA, TypicalPersons.GEORGE)
+            .withId(3)
             .build();
     public static final Event SWIM_WO_RESIDENTS = new EventBuilder().withEventName("Swim Training")
             .withEventDate("19-10-2021")
             .withEventTime("0800")
             .withVenue("Pool")
             .withCapacity("15")
+            .withId(4)
             .build();
     public static final Event SWIM = new EventBuilder().withEventName("swim")
             .withEventDate("10-09-2021")
             .withEventTime("0800")
             .withVenue("swimming pool")
             .withCapacity("8")
-            .withResidentList(TypicalPersons.GEORGE.getName().toString(), TypicalPersons.GEORGE.toString())
+            .withResidents(TypicalPersons.GEORGE)
+            .withId(5)
             .build();
     public static final Event BAND = new EventBuilder().withEventName("band")
             .withEventDate("10-11-2021")
             .withEventTime("0830")
             .withVenue("band room")
             .withCapacity("9")
-            .withResidentList(TypicalPersons.CARL.getName().toString()
-                            + ", " + TypicalPersons.BENSON.getName().toString(),
-                    TypicalPersons.CARL.toString()
-                            + ", " + TypicalPersons.BENSON.toString())
+            .withResidents(TypicalPersons.CARL, TypicalPersons.BENSON)
+            .withId(6)
             .build();
     public static final Event ROAD_RELAY = new EventBuilder().withEventName("road relay")
             .withEventDate("12-12-2021")
             .withEventTime("1830")
             .withVenue("track")
             .withCapacity("10")
-            .withResidentList(TypicalPersons.GEORGE.getName().toString(), TypicalPersons.GEORGE.toString())
+            .withResidents(TypicalPersons.GEORGE)
+            .withId(7)
             .build();
     public static final Event DANCE = new EventBuilder().withEventName("dance")
             .withEventDate("01-10-2021")
             .withEventTime("1230")
             .withVenue("studio")
             .withCapacity("11")
-            .withResidentList(TypicalPersons.GEORGE.getName().toString()
-                            + ", " + TypicalPersons.CARL.getName().toString()
-                            + ", " + TypicalPersons.BENSON.getName().toString(),
-                    TypicalPersons.GEORGE.toString()
-                            + ", " + TypicalPersons.CARL.toString()
-                            + ", " + TypicalPersons.BENSON.toString())
+            .withResidents(TypicalPersons.GEORGE, TypicalPersons.CARL, TypicalPersons.BENSON)
+            .withId(8)
             .build();
 
     // Manually added
@@ -87,10 +82,8 @@ public class TypicalEvents {
             .withEventTime("1800")
             .withVenue("pool room")
             .withCapacity("10")
-            .withResidentList(TypicalPersons.GEORGE.getName().toString()
-                            + ", " + TypicalPersons.CARL.getName().toString(),
-                    TypicalPersons.GEORGE.toString()
-                            + ", " + TypicalPersons.CARL.toString())
+            .withResidents(TypicalPersons.GEORGE, TypicalPersons.CARL)
+            .withId(9)
             .build();
 
     public static final Event HACKERS = new EventBuilder().withEventName("hackers")
@@ -98,7 +91,8 @@ public class TypicalEvents {
             .withEventTime("2000")
             .withVenue("lab")
             .withCapacity("20")
-            .withResidentList(TypicalPersons.BENSON.getName().toString(), TypicalPersons.BENSON.toString())
+            .withResidents(TypicalPersons.BENSON)
+            .withId(10)
             .build();
 
     public static final String KEYWORD_MATCHING_MEIER = "Meier"; // A keyword that matches MEIER
@@ -37,6 +37,7 @@ public class TypicalPersons {
             .withFaculty("SoC")
             .withFet("03-10-2021")
             .withCollection("03-10-2021")
+            .withId(1)
             .build();
     public static final Person BENSON = new PersonBuilder().withName("Benson Meier")
             .withRoom("A101")
@@ -46,6 +47,7 @@ public class TypicalPersons {
             .withFaculty("SoC")
             .withFet("12-10-2021")
             .withCollection("13-10-2021")
+            .withId(2)
             .build();
     public static final Person CARL = new PersonBuilder().withName("Carl Kurz")
             .withRoom("A102")
@@ -55,6 +57,7 @@ public class TypicalPersons {
             .withFaculty("SoC")
             .withFet("10-10-2021")
             .withCollection("03-10-2021")
+            .withId(3)
             .build();
     public static final Person DANIEL = new PersonBuilder().withName("Daniel Meier")
             .withRoom("A103")
@@ -64,6 +67,7 @@ public class TypicalPersons {
             .withFaculty("SoC")
             .withFet("12-10-2021")
             .withCollection("13-10-2021")
+            .withId(4)
             .build();
     public static final Person ELLE = new PersonBuilder().withName("Elle Meyer")
             .withRoom("A104")
@@ -73,6 +77,7 @@ public class TypicalPersons {
             .withFaculty("SoC")
             .withFet("05-10-2021")
             .withCollection("16-10-2021")
+            .withId(5)
             .build();
     public static final Person FIONA = new PersonBuilder().withName("Fiona Kunz")
             .withRoom("A105")
@@ -82,6 +87,7 @@ public class TypicalPersons {
             .withFaculty("SoC")
             .withFet("20-10-2021")
             .withCollection("04-10-2021")
+            .withId(6)
             .build();
     public static final Person GEORGE = new PersonBuilder().withName("George Best")
             .withRoom("A106")
@@ -91,6 +97,7 @@ public class TypicalPersons {
             .withFaculty("SoC")
             .withFet("15-10-2021")
             .withCollection("01-10-2021")
+            .withId(7)
             .build();
 
     // Manually added
@@ -102,6 +109,7 @@ public class TypicalPersons {
             .withFaculty("SoC")
             .withFet("15-10-2021")
             .withCollection("15-10-2021")
+            .withId(8)
             .build();
     public static final Person IDA = new PersonBuilder().withName("Ida Mueller")
             .withPhone("8482131")
@@ -111,6 +119,7 @@ public class TypicalPersons {
             .withFaculty("SoC")
             .withFet("20-10-2021")
             .withCollection("22-10-2021")
+            .withId(9)
             .build();
 
     // Manually added - Person's details found in {@code CommandTestUtil}
@@ -122,6 +131,7 @@ public class TypicalPersons {
             .withVaccStatus(VALID_VACCSTATUS_AMY)
             .withFet(VALID_FETDATE_AMY)
             .withCollection(VALID_COLLECTIONDATE_AMY)
+            .withId(10)
             .build();
     // Person AMY without FET or COLLECTION
     public static final Person AMY_NO_FET_COLLECTION = new PersonBuilder().withName(VALID_NAME_AMY)
@@ -130,6 +140,7 @@ public class TypicalPersons {
             .withRoom(VALID_ROOM_AMY)
             .withFaculty(VALID_FACULTY_AMY)
             .withVaccStatus(VALID_VACCSTATUS_AMY)
+            .withId(11)
             .build();
     // Person AMY without FET
     public static final Person AMY_NO_FET = new PersonBuilder().withName(VALID_NAME_AMY)
@@ -139,6 +150,7 @@ public class TypicalPersons {
             .withFaculty(VALID_FACULTY_AMY)
             .withVaccStatus(VALID_VACCSTATUS_AMY)
             .withCollection(VALID_COLLECTIONDATE_AMY)
+            .withId(12)
             .build();
     // Person AMY without COLLECTION
     public static final Person AMY_NO_COLLECTION = new PersonBuilder().withName(VALID_NAME_AMY)
@@ -148,6 +160,7 @@ public class TypicalPersons {
             .withFaculty(VALID_FACULTY_AMY)
             .withVaccStatus(VALID_VACCSTATUS_AMY)
             .withFet(VALID_FETDATE_AMY)
+            .withId(13)
             .build();
     public static final Person BOB = new PersonBuilder().withName(VALID_NAME_BOB)
             .withPhone(VALID_PHONE_BOB)
@@ -157,6 +170,7 @@ public class TypicalPersons {
             .withVaccStatus(VALID_VACCSTATUS_BOB)
             .withFet(VALID_FETDATE_BOB)
             .withCollection(VALID_COLLECTIONDATE_BOB)
+            .withId(14)
             .build();
 
     // Typical persons to be imported
@@ -168,6 +182,7 @@ public class TypicalPersons {
             .withFaculty("SoC")
             .withFet("03-08-2021")
             .withCollection("10-09-2021")
+            .withId(15)
             .build();
     public static final Person BRAD = new PersonBuilder().withName("Brad Pitt")
             .withPhone("92353605")
@@ -177,6 +192,7 @@ public class TypicalPersons {
             .withFaculty("Fass")
             .withFet("20-08-2021")
             .withCollection("16-08-2021")
+            .withId(16)
             .build();
     public static final Person CODY = new PersonBuilder().withName("Cody Miller")
             .withPhone("93510639")
@@ -186,6 +202,7 @@ public class TypicalPersons {
             .withFaculty("Sde")
             .withFet("23-08-2021")
             .withCollection("25-08-2021")
+            .withId(17)
             .build();
     public static final Person DARREN = new PersonBuilder().withName("Darren Hia")
             .withPhone("92976221")
@@ -195,6 +212,7 @@ public class TypicalPersons {
             .withFaculty("Foe")
             .withFet("29-08-2021")
             .withCollection("17-08-2021")
+            .withId(18)
             .build();
     public static final Person ELLIE = new PersonBuilder().withName("Ellie Muslinger")
             .withPhone("97728537")
@@ -204,6 +222,7 @@ public class TypicalPersons {
             .withFaculty("Biz")
             .withFet("17-08-2021")
             .withCollection("30-08-2021")
+            .withId(19)
             .build();
 
     // Missing fet and collection for importing
@@ -214,6 +233,7 @@ public class TypicalPersons {
             .withVaccStatus("T")
             .withFaculty("Sde")
             .withCollection("25-08-2021")
+            .withId(20)
             .build();
     public static final Person ELLIE_WO_COLLECTION = new PersonBuilder().withName("Ellie Muslinger")
             .withPhone("97728537")
@@ -222,6 +242,7 @@ public class TypicalPersons {
             .withVaccStatus("F")
             .withFaculty("Biz")
             .withFet("17-08-2021")
+            .withId(21)
             .build();
 
     public static final String KEYWORD_MATCHING_MEIER = "Meier"; // A keyword that matches MEIER